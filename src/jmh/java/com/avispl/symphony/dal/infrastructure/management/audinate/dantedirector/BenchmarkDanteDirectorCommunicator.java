@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common.DeviceCacheEntry;
+import com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.dto.ChannelDTO;
+
+/**
+ * Communicator answering the Domains and Devices queries with canned responses, exposing the collection and
+ * rendering steps the benchmarks measure. The steps are private to the communicator and are reached through method handles.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.0
+ */
+class BenchmarkDanteDirectorCommunicator extends DanteDirectorCommunicator {
+	private static final MethodHandle RETRIEVE_SYSTEM_INFO = privateMethod("retrieveSystemInfo");
+	private static final MethodHandle POPULATE_DEVICE_DETAILS = privateMethod("populateDeviceDetails");
+	private static final MethodHandle CLONE_AND_POPULATE_AGGREGATED_DEVICE_LIST = privateMethod("cloneAndPopulateAggregatedDeviceList");
+	private static final MethodHandle PARSE_RECEIVE_CHANNELS = privateMethod("parseReceiveChannels", JsonNode.class);
+	private static final MethodHandle CONVERT_DATE_TIME_FORMAT = privateMethod("convertDateTimeFormat", String.class);
+	private static final MethodHandle CACHED_DATA = privateGetter("cachedData");
+
+	private final JsonNode systemInfo;
+	private volatile JsonNode devicesInfo;
+
+	/**
+	 * Constructs a communicator serving the given responses.
+	 *
+	 * @param systemInfo the response of the Domains query
+	 * @param devicesInfo the response of the Devices query
+	 */
+	BenchmarkDanteDirectorCommunicator(JsonNode systemInfo, JsonNode devicesInfo) throws Exception {
+		this.systemInfo = systemInfo;
+		this.devicesInfo = devicesInfo;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected <Request, Response> Response doPost(String uri, Request data, Class<Response> responseClass) {
+		return (Response) (String.valueOf(data).contains("query Domains") ? systemInfo : devicesInfo);
+	}
+
+	/**
+	 * Sets {@link #devicesInfo} value
+	 *
+	 * @param devicesInfo new value of {@link #devicesInfo}
+	 */
+	void setDevicesInfo(JsonNode devicesInfo) {
+		this.devicesInfo = devicesInfo;
+	}
+
+	void retrieveSystemInfo() throws Throwable {
+		RETRIEVE_SYSTEM_INFO.invoke((DanteDirectorCommunicator) this);
+	}
+
+	void populateDeviceDetails() throws Throwable {
+		POPULATE_DEVICE_DETAILS.invoke((DanteDirectorCommunicator) this);
+	}
+
+	@SuppressWarnings("unchecked")
+	List<AggregatedDevice> cloneAndPopulateAggregatedDeviceList() throws Throwable {
+		return (List<AggregatedDevice>) CLONE_AND_POPULATE_AGGREGATED_DEVICE_LIST.invoke((DanteDirectorCommunicator) this);
+	}
+
+	ChannelDTO[] parseReceiveChannels(JsonNode rxChannels) throws Throwable {
+		return (ChannelDTO[]) PARSE_RECEIVE_CHANNELS.invoke((DanteDirectorCommunicator) this, rxChannels);
+	}
+
+	String convertDateTimeFormat(String inputDateTime) throws Throwable {
+		return (String) CONVERT_DATE_TIME_FORMAT.invoke((DanteDirectorCommunicator) this, inputDateTime);
+	}
+
+	/**
+	 * Drops the rendered devices of the cache, so the next snapshot renders every device again.
+	 */
+	@SuppressWarnings("unchecked")
+	void invalidateRenderedDevices() throws Throwable {
+		Map<String, DeviceCacheEntry> cachedData = (Map<String, DeviceCacheEntry>) CACHED_DATA.invoke((DanteDirectorCommunicator) this);
+		synchronized (cachedData) {
+			for (DeviceCacheEntry entry : cachedData.values()) {
+				entry.setRenderedDevice(null);
+			}
+		}
+	}
+
+	private static MethodHandle privateMethod(String name, Class<?>... parameterTypes) {
+		try {
+			Method method = DanteDirectorCommunicator.class.getDeclaredMethod(name, parameterTypes);
+			method.setAccessible(true);
+			return MethodHandles.lookup().unreflect(method);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Unable to access " + name, e);
+		}
+	}
+
+	private static MethodHandle privateGetter(String name) {
+		try {
+			Field field = DanteDirectorCommunicator.class.getDeclaredField(name);
+			field.setAccessible(true);
+			return MethodHandles.lookup().unreflectGetter(field);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Unable to access " + name, e);
+		}
+	}
+}
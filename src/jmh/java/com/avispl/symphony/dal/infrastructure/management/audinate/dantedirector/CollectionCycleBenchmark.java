@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+
+/**
+ * Benchmarks of a devices collection cycle of the communicator, from the parsed Devices response to the published snapshot,
+ * and of the rendering of the snapshot alone.
+ * The changed cycles alternate between two snapshots of the fleet, so the given ratio of the devices is mapped again on every cycle.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CollectionCycleBenchmark {
+	private static final int DOMAIN_COUNT = 10;
+	private static final long SEED = 42;
+
+	@Param({ "100", "1000", "10000" })
+	private int deviceCount;
+
+	@Param({ "false", "true" })
+	private boolean compiledMapping;
+
+	@Param({ "0.01", "1" })
+	private double churnRate;
+
+	private final JsonNode[] revisions = new JsonNode[2];
+	private int revision;
+	private BenchmarkDanteDirectorCommunicator communicator;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Throwable {
+		ObjectMapper objectMapper = new ObjectMapper();
+		FleetGenerator fleetGenerator = new FleetGenerator(SEED, deviceCount, DOMAIN_COUNT);
+		JsonNode systemInfo = objectMapper.readTree(fleetGenerator.systemInfo());
+		List<String> snapshots = fleetGenerator.devicesInfoSnapshots(revisions.length, churnRate);
+		for (int i = 0; i < revisions.length; i++) {
+			revisions[i] = objectMapper.readTree(snapshots.get(i));
+		}
+		communicator = new BenchmarkDanteDirectorCommunicator(systemInfo, revisions[0]);
+		communicator.setCompiledMapping(compiledMapping);
+		communicator.retrieveSystemInfo();
+		communicator.populateDeviceDetails();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		communicator.destroy();
+	}
+
+	/**
+	 * Collection cycle where the churned devices changed since the previous cycle.
+	 */
+	@Benchmark
+	public void changedCycle() throws Throwable {
+		revision = 1 - revision;
+		communicator.setDevicesInfo(revisions[revision]);
+		communicator.populateDeviceDetails();
+	}
+
+	/**
+	 * Collection cycle where no device changed since the previous cycle.
+	 */
+	@Benchmark
+	public void unchangedCycle() throws Throwable {
+		communicator.populateDeviceDetails();
+	}
+
+	/**
+	 * Snapshot where every device is rendered again, as after a change of the site names.
+	 */
+	@Benchmark
+	public List<AggregatedDevice> fullRender() throws Throwable {
+		communicator.invalidateRenderedDevices();
+		return communicator.cloneAndPopulateAggregatedDeviceList();
+	}
+
+	/**
+	 * Snapshot where every device reuses its rendered device.
+	 */
+	@Benchmark
+	public List<AggregatedDevice> incrementalRender() throws Throwable {
+		return communicator.cloneAndPopulateAggregatedDeviceList();
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+
+/**
+ * Benchmark of {@link DanteDirectorCommunicator#retrieveMultipleStatistics(List)}, looking devices up by id in the device index.
+ * The time per call has to stay flat as the fleet grows, and grow only with the number of ids requested.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeviceLookupBenchmark {
+	private static final int DOMAIN_COUNT = 10;
+	private static final long SEED = 42;
+
+	@Param({ "10000", "20000" })
+	private int deviceCount;
+
+	@Param({ "1", "100" })
+	private int lookupCount;
+
+	private List<String> deviceIds;
+	private BenchmarkDanteDirectorCommunicator communicator;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Throwable {
+		ObjectMapper objectMapper = new ObjectMapper();
+		FleetGenerator fleetGenerator = new FleetGenerator(SEED, deviceCount, DOMAIN_COUNT);
+		communicator = new BenchmarkDanteDirectorCommunicator(objectMapper.readTree(fleetGenerator.systemInfo()), objectMapper.readTree(fleetGenerator.devicesInfo()));
+		communicator.setCompiledMapping(true);
+		// keeps the data loader started by the lookups from running a collection cycle while measuring
+		communicator.setDeviceCollectionInterval(TimeUnit.HOURS.toMillis(1));
+		communicator.retrieveSystemInfo();
+		communicator.populateDeviceDetails();
+		communicator.retrieveMultipleStatistics();
+
+		Random random = new Random(SEED);
+		List<String> fleetDeviceIds = fleetGenerator.getDeviceIds();
+		deviceIds = new ArrayList<>(lookupCount);
+		for (int i = 0; i < lookupCount; i++) {
+			deviceIds.add(fleetDeviceIds.get(random.nextInt(fleetDeviceIds.size())));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		communicator.destroy();
+	}
+
+	/**
+	 * Lookup of {@link #lookupCount} devices by id.
+	 */
+	@Benchmark
+	public List<AggregatedDevice> lookup() throws Exception {
+		return communicator.retrieveMultipleStatistics(deviceIds);
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.dal.aggregator.parser.AggregatedDeviceProcessor;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMappingParser;
+import com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common.CompiledDeviceMapping;
+import com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common.DanteDirectorConstant;
+import com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.dto.ChannelDTO;
+
+/**
+ * Benchmarks of the mapping of every device of a Devices response, comparing the {@link AggregatedDeviceProcessor}
+ * with the {@link CompiledDeviceMapping} of the same model mapping yml, and of the parsing steps done once per changed device.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeviceMappingBenchmark {
+	private static final int DOMAIN_COUNT = 10;
+	private static final long SEED = 42;
+
+	@Param({ "100", "1000", "5000", "10000" })
+	private int deviceCount;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final List<JsonNode> devices = new ArrayList<>();
+	private AggregatedDeviceProcessor aggregatedDeviceProcessor;
+	private CompiledDeviceMapping compiledDeviceMapping;
+	private BenchmarkDanteDirectorCommunicator communicator;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		Map<String, PropertiesMapping> mapping = new PropertiesMappingParser().loadYML(DanteDirectorConstant.MODEL_MAPPING_AGGREGATED_DEVICE, DanteDirectorCommunicator.class);
+		aggregatedDeviceProcessor = new AggregatedDeviceProcessor(mapping);
+		compiledDeviceMapping = new CompiledDeviceMapping(mapping);
+		JsonNode response = objectMapper.readTree(new FleetGenerator(SEED, deviceCount, DOMAIN_COUNT).devicesInfo());
+		for (JsonNode domain : response.get(DanteDirectorConstant.DATA).get(DanteDirectorConstant.DOMAINS)) {
+			for (JsonNode device : domain.get(DanteDirectorConstant.DEVICES)) {
+				devices.add(device);
+			}
+		}
+		communicator = new BenchmarkDanteDirectorCommunicator(objectMapper.createObjectNode(), response);
+	}
+
+	/**
+	 * Maps every device with the processor, wrapping each one into an array as the collection cycle does.
+	 */
+	@Benchmark
+	public void processorMapping(Blackhole blackhole) {
+		for (JsonNode device : devices) {
+			blackhole.consume(aggregatedDeviceProcessor.extractDevices(objectMapper.createArrayNode().add(device)));
+		}
+	}
+
+	/**
+	 * Maps every device with the compiled mapping.
+	 */
+	@Benchmark
+	public void compiledMapping(Blackhole blackhole) {
+		for (JsonNode device : devices) {
+			blackhole.consume(compiledDeviceMapping.extractDevice(device));
+		}
+	}
+
+	/**
+	 * Parses the rxChannels of every device, as done once per changed device.
+	 */
+	@Benchmark
+	public void receiveChannelsParsing(Blackhole blackhole) throws Throwable {
+		for (JsonNode device : devices) {
+			blackhole.consume(communicator.parseReceiveChannels(device.get(DanteDirectorConstant.RX_CHANNELS)));
+		}
+	}
+
+	/**
+	 * Parses the rxChannels of every device the way they were parsed before they were kept on the cache entries: the model
+	 * mapping turned them into a json string, which was read back into channels on every render of every device.
+	 */
+	@Benchmark
+	public void receiveChannelsStringRoundTrip(Blackhole blackhole) throws Exception {
+		for (JsonNode device : devices) {
+			String value = device.get(DanteDirectorConstant.RX_CHANNELS).toString();
+			blackhole.consume(objectMapper.readValue(value, new TypeReference<List<ChannelDTO>>() {
+			}));
+		}
+	}
+
+	/**
+	 * Converts the connection date of every device.
+	 */
+	@Benchmark
+	public void dateTimeConversion(Blackhole blackhole) throws Throwable {
+		for (JsonNode device : devices) {
+			blackhole.consume(communicator.convertDateTimeFormat(device.get("connection").get("lastChanged").asText()));
+		}
+	}
+}
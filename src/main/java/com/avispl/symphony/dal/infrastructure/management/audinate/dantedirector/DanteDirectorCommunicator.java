@@ -9,28 +9,55 @@ import java.net.ConnectException;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.util.CollectionUtils;
+import org.springframework.web.client.RestTemplate;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import javax.security.auth.login.FailedLoginException;
 
 import com.avispl.symphony.api.dal.control.Controller;
@@ -46,10 +73,19 @@ import com.avispl.symphony.dal.aggregator.parser.AggregatedDeviceProcessor;
 import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
 import com.avispl.symphony.dal.aggregator.parser.PropertiesMappingParser;
 import com.avispl.symphony.dal.communicator.RestCommunicator;
+import com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common.AdapterMetrics;
 import com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common.AggregatedControllableProperty;
 import com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common.AggregatedInformation;
+import com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common.CompiledDeviceMapping;
 import com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common.DanteDirectorConstant;
 import com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common.DanteDirectorQuery;
+import com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common.DeviceCacheEntry;
+import com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common.DeviceFingerprint;
+import com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common.DeviceSnapshotFile;
+import com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common.FleetGauges;
+import com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common.MetricsEndpoint;
+import com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common.MetricsRequestInterceptor;
+import com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common.SubscriptionGraph;
 import com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common.SystemInformation;
 import com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.dto.ChannelDTO;
 import com.avispl.symphony.dal.util.StringUtils;
@@ -109,20 +145,31 @@ import com.avispl.symphony.dal.util.StringUtils;
  * <li> - Latency</li>
  * <li> - Subscriptions</li>
  * </ul>
+ *
+ * ChannelSubscriptions Group:
+ * <ul>
+ * <li> - BrokenSubscriptions</li>
+ * <li> - SubscribersCount</li>
+ * <li> - TransmitFanOut</li>
+ * </ul>
  * @author Harry / Symphony Dev Team<br>
  * Created on 03/05/2024
  * @since 1.0.0
  */
 public class DanteDirectorCommunicator extends RestCommunicator implements Aggregator, Monitorable, Controller {
 	/**
-	 * Process that is running constantly and triggers collecting data from Dante Director SE API endpoints, based on the given timeouts and thresholds.
+	 * Process that triggers collecting data from Dante Director SE API endpoints, based on the given timeouts and thresholds.
+	 * Each run performs a single collection cycle and schedules the next one on {@link #executorService}, so the loader
+	 * does not wake up in between cycles. Once monitoring is paused, no cycle is scheduled until {@link #resume()} is called.
 	 *
 	 * @author Harry
 	 * @since 1.0.0
 	 */
 	class DanteDirectorDataLoader implements Runnable {
 		private volatile boolean inProgress;
-		private volatile boolean flag = false;
+		private ScheduledFuture<?> nextCollection;
+		private boolean running;
+		private boolean collectionRequested;
 
 		public DanteDirectorDataLoader() {
 			inProgress = true;
@@ -130,60 +177,99 @@ public class DanteDirectorCommunicator extends RestCommunicator implements Aggre
 
 		@Override
 		public void run() {
-			loop:
-			while (inProgress) {
-				try {
-					TimeUnit.MILLISECONDS.sleep(500);
-				} catch (InterruptedException e) {
-					// Ignore for now
-				}
-
+			synchronized (this) {
 				if (!inProgress) {
-					break loop;
+					return;
 				}
-
+				running = true;
+				collectionRequested = false;
+				nextCollection = null;
+			}
+			boolean paused = false;
+			boolean statusCycle = isStatusCycle();
+			long cycleStartTime = System.nanoTime();
+			try {
 				// next line will determine whether Dante Director monitoring was paused
 				updateAggregatorStatus();
-				if (devicePaused) {
-					continue loop;
-				}
-				if (logger.isDebugEnabled()) {
-					logger.debug("Fetching other than aggregated device list");
-				}
-				long currentTimestamp = System.currentTimeMillis();
-				if (!flag && nextDevicesCollectionIterationTimestamp <= currentTimestamp) {
-					populateDeviceDetails();
-					flag = true;
+				paused = devicePaused;
+				if (!paused) {
+					if (statusCycle) {
+						populateDeviceStatus();
+					} else {
+						if (logger.isDebugEnabled()) {
+							logger.debug("Fetching other than aggregated device list");
+						}
+						populateDeviceDetails();
+						if (logger.isDebugEnabled()) {
+							logger.debug("Finished collecting devices statistics cycle at " + new Date());
+						}
+					}
+					adapterMetrics.recordCycle(System.nanoTime() - cycleStartTime);
+					persistSnapshot();
 				}
-
-				while (nextDevicesCollectionIterationTimestamp > System.currentTimeMillis()) {
-					try {
-						TimeUnit.MILLISECONDS.sleep(1000);
-					} catch (InterruptedException e) {
-						//
+			} catch (Exception e) {
+				logger.error("Error while collecting devices statistics", e);
+			} finally {
+				synchronized (this) {
+					running = false;
+					if (collectionRequested) {
+						schedule(0);
+					} else if (!paused) {
+						schedule(nextCycleDelay(statusCycle));
 					}
 				}
+			}
+		}
 
-				if (!inProgress) {
-					break loop;
-				}
-				if (flag) {
-					nextDevicesCollectionIterationTimestamp = System.currentTimeMillis() + 30000;
-					flag = false;
-				}
+		/**
+		 * Triggers a collection cycle as soon as possible, or right after the one in progress
+		 */
+		public synchronized void requestCollection() {
+			if (running) {
+				collectionRequested = true;
+			} else {
+				schedule(0);
+			}
+		}
 
-				if (logger.isDebugEnabled()) {
-					logger.debug("Finished collecting devices statistics cycle at " + new Date());
-				}
+		/**
+		 * Triggers a collection cycle if none is in progress or scheduled, that is after monitoring was paused
+		 */
+		public synchronized void resume() {
+			if (!running && nextCollection == null) {
+				schedule(0);
 			}
-			// Finished collecting
 		}
 
 		/**
-		 * Triggers main loop to stop
+		 * Triggers the loader to stop
 		 */
-		public void stop() {
+		public synchronized void stop() {
 			inProgress = false;
+			if (nextCollection != null) {
+				nextCollection.cancel(false);
+				nextCollection = null;
+			}
+		}
+
+		/**
+		 * Replaces the scheduled collection cycle, if any, with one starting after the given delay
+		 *
+		 * @param delay delay in milliseconds
+		 */
+		private void schedule(long delay) {
+			ScheduledExecutorService scheduler = executorService;
+			if (!inProgress || scheduler == null) {
+				return;
+			}
+			if (nextCollection != null) {
+				nextCollection.cancel(false);
+			}
+			try {
+				nextCollection = scheduler.schedule(this, delay, TimeUnit.MILLISECONDS);
+			} catch (RejectedExecutionException e) {
+				nextCollection = null;
+			}
 		}
 	}
 
@@ -196,12 +282,257 @@ public class DanteDirectorCommunicator extends RestCommunicator implements Aggre
 	private volatile boolean devicePaused = true;
 
 	/**
+	 * Interval between two devices collection cycles, in milliseconds.
 	 * We don't want the statistics to be collected constantly, because if there's not a big list of devices -
-	 * new devices' statistics loop will be launched before the next monitoring iteration. To avoid that -
-	 * this variable stores a timestamp which validates it, so when the devices' statistics is done collecting, variable
-	 * is set to currentTime + 30s, at the same time, calling {@link #retrieveMultipleStatistics()} and updating the
+	 * new devices' statistics cycle would be launched before the next monitoring iteration.
+	 */
+	private volatile long deviceCollectionInterval = 30000;
+
+	/**
+	 * Retrieves {@link #deviceCollectionInterval}
+	 *
+	 * @return value of {@link #deviceCollectionInterval}
+	 */
+	public long getDeviceCollectionInterval() {
+		return deviceCollectionInterval;
+	}
+
+	/**
+	 * Sets {@link #deviceCollectionInterval} value
+	 *
+	 * @param deviceCollectionInterval new value of {@link #deviceCollectionInterval}
+	 */
+	public void setDeviceCollectionInterval(long deviceCollectionInterval) {
+		this.deviceCollectionInterval = Math.max(1000, deviceCollectionInterval);
+		this.effectiveCollectionInterval = this.deviceCollectionInterval;
+	}
+
+	/**
+	 * Whether the interval between two devices collection cycles adapts to the observed changes and response time,
+	 * within {@link #minDeviceCollectionInterval} and {@link #maxDeviceCollectionInterval}, starting from {@link #deviceCollectionInterval}.
+	 */
+	private boolean adaptiveCollectionInterval = false;
+
+	/**
+	 * Lower bound of the adaptive collection interval, in milliseconds
+	 */
+	private long minDeviceCollectionInterval = 10000;
+
+	/**
+	 * Upper bound of the adaptive collection interval, in milliseconds
+	 */
+	private long maxDeviceCollectionInterval = 300000;
+
+	/**
+	 * Interval, in milliseconds, used to schedule the next devices collection cycle
+	 */
+	private volatile long effectiveCollectionInterval = deviceCollectionInterval;
+
+	/**
+	 * Number of devices that were mapped because they were new or changed during the last collection cycle
+	 */
+	private volatile int lastCycleChangedDevices;
+
+	/**
+	 * Number of devices whose online, Clocking or Connectivity status changed since the last devices collection cycle
+	 */
+	private final AtomicInteger cycleStatusChanges = new AtomicInteger();
+
+	/**
+	 * Dante Director response time of the last collection cycle, in milliseconds
+	 */
+	private volatile long lastCycleResponseTime;
+
+	/**
+	 * Self-metrics of the adapter, published as the {@link DanteDirectorConstant#ADAPTER_METRICS_GROUP} statistics
+	 */
+	private final AdapterMetrics adapterMetrics = new AdapterMetrics();
+
+	/**
+	 * Interceptor recording every Dante Director request into {@link #adapterMetrics}
+	 */
+	private final MetricsRequestInterceptor metricsRequestInterceptor = new MetricsRequestInterceptor(adapterMetrics);
+
+	/**
+	 * Fleet level gauges of the cached devices, updated with every device mapped or removed
+	 */
+	private final FleetGauges fleetGauges = new FleetGauges();
+
+	/**
+	 * Endpoint exposing {@link #adapterMetrics} and {@link #fleetGauges} to Prometheus, started when {@link #metricsPort} is set
+	 */
+	private final MetricsEndpoint metricsEndpoint = new MetricsEndpoint(adapterMetrics, fleetGauges);
+
+	/**
+	 * Port of the Prometheus metrics endpoint, served at /metrics on the loopback interface only.
+	 * 0 (default) disables the endpoint.
+	 */
+	private int metricsPort = 0;
+
+	/**
+	 * Path of the local file keeping the last device snapshot across restarts, written after every collection cycle that changed
+	 * the devices and restored at init, so the devices are served with stale but complete values until the first cycle completes.
+	 * Empty (default) disables the warm start.
+	 */
+	private String warmStartFile = "";
+
+	/**
+	 * Whether the cached devices changed since {@link #warmStartFile} was last written, claimed under the {@link #cachedData}
+	 * lock by the write that encodes them
+	 */
+	private final AtomicBoolean snapshotDirty = new AtomicBoolean();
+
+	/**
+	 * Lock serializing the writes of {@link #warmStartFile}, so a snapshot is never replaced by an older one
+	 */
+	private final Object snapshotWriteLock = new Object();
+
+	/**
+	 * Time of the snapshot restored from {@link #warmStartFile}, in milliseconds, until a complete collection cycle replaces it; 0 otherwise
+	 */
+	private volatile long restoredSnapshotTime;
+
+	/**
+	 * Interval between two device status collection cycles, in milliseconds.
+	 * 0 (default) retrieves every device field each {@link #deviceCollectionInterval}. A positive value retrieves only the
+	 * volatile status fields with {@link DanteDirectorQuery#DEVICES_STATUS} at this interval, merged into the cached devices,
+	 * while the full inventory is retrieved each {@link #deviceCollectionInterval}.
+	 */
+	private volatile long statusCollectionInterval = 0;
+
+	/**
+	 * Time at which the next full devices collection cycle is due, when {@link #statusCollectionInterval} is set
+	 */
+	private volatile long nextInventoryCollectionTimestamp;
+
+	/**
+	 * Retrieves {@link #statusCollectionInterval}
+	 *
+	 * @return value of {@link #statusCollectionInterval}
+	 */
+	public long getStatusCollectionInterval() {
+		return statusCollectionInterval;
+	}
+
+	/**
+	 * Sets {@link #statusCollectionInterval} value
+	 *
+	 * @param statusCollectionInterval new value of {@link #statusCollectionInterval}
+	 */
+	public void setStatusCollectionInterval(long statusCollectionInterval) {
+		this.statusCollectionInterval = statusCollectionInterval <= 0 ? 0 : Math.max(1000, statusCollectionInterval);
+	}
+
+	/**
+	 * Checks whether the next collection cycle only retrieves the device statuses, that is the full inventory is not due yet.
+	 *
+	 * @return true for a status collection cycle; false for a full devices collection cycle
+	 */
+	private boolean isStatusCycle() {
+		return statusCollectionInterval > 0 && System.currentTimeMillis() < nextInventoryCollectionTimestamp;
+	}
+
+	/**
+	 * Computes the delay before the next collection cycle, the earliest of the next status cycle and the next full cycle.
+	 *
+	 * @param statusCycle whether the cycle that just ended only retrieved the device statuses
+	 * @return delay in milliseconds
+	 */
+	private long nextCycleDelay(boolean statusCycle) {
+		long now = System.currentTimeMillis();
+		if (!statusCycle) {
+			nextInventoryCollectionTimestamp = now + nextCollectionInterval();
+		}
+		long delay = nextInventoryCollectionTimestamp - now;
+		if (statusCollectionInterval > 0) {
+			delay = Math.min(delay, statusCollectionInterval);
+		}
+		return Math.max(0, delay);
+	}
+
+	/**
+	 * Retrieves {@link #adaptiveCollectionInterval}
+	 *
+	 * @return value of {@link #adaptiveCollectionInterval}
+	 */
+	public boolean isAdaptiveCollectionInterval() {
+		return adaptiveCollectionInterval;
+	}
+
+	/**
+	 * Sets {@link #adaptiveCollectionInterval} value
+	 *
+	 * @param adaptiveCollectionInterval new value of {@link #adaptiveCollectionInterval}
+	 */
+	public void setAdaptiveCollectionInterval(boolean adaptiveCollectionInterval) {
+		this.adaptiveCollectionInterval = adaptiveCollectionInterval;
+	}
+
+	/**
+	 * Retrieves {@link #minDeviceCollectionInterval}
+	 *
+	 * @return value of {@link #minDeviceCollectionInterval}
+	 */
+	public long getMinDeviceCollectionInterval() {
+		return minDeviceCollectionInterval;
+	}
+
+	/**
+	 * Sets {@link #minDeviceCollectionInterval} value
+	 *
+	 * @param minDeviceCollectionInterval new value of {@link #minDeviceCollectionInterval}
+	 */
+	public void setMinDeviceCollectionInterval(long minDeviceCollectionInterval) {
+		this.minDeviceCollectionInterval = Math.max(1000, minDeviceCollectionInterval);
+	}
+
+	/**
+	 * Retrieves {@link #maxDeviceCollectionInterval}
+	 *
+	 * @return value of {@link #maxDeviceCollectionInterval}
+	 */
+	public long getMaxDeviceCollectionInterval() {
+		return maxDeviceCollectionInterval;
+	}
+
+	/**
+	 * Sets {@link #maxDeviceCollectionInterval} value
+	 *
+	 * @param maxDeviceCollectionInterval new value of {@link #maxDeviceCollectionInterval}
+	 */
+	public void setMaxDeviceCollectionInterval(long maxDeviceCollectionInterval) {
+		this.maxDeviceCollectionInterval = Math.max(1000, maxDeviceCollectionInterval);
+	}
+
+	/**
+	 * Computes the interval before the next devices collection cycle.
+	 * In adaptive mode the interval is halved when device statuses changed since the last cycle, lengthened by half when
+	 * no device changed at all, and kept at least four times the Dante Director response time.
+	 *
+	 * @return interval in milliseconds
 	 */
-	private long nextDevicesCollectionIterationTimestamp;
+	private long nextCollectionInterval() {
+		if (!adaptiveCollectionInterval) {
+			cycleStatusChanges.set(0);
+			effectiveCollectionInterval = deviceCollectionInterval;
+			return effectiveCollectionInterval;
+		}
+		long interval = effectiveCollectionInterval;
+		int statusChanges = cycleStatusChanges.getAndSet(0);
+		if (statusChanges > 0) {
+			interval = interval / 2;
+		} else if (lastCycleChangedDevices == 0) {
+			interval = interval * 3 / 2;
+		}
+		interval = Math.max(interval, lastCycleResponseTime * 4);
+		interval = Math.min(Math.max(interval, minDeviceCollectionInterval), Math.max(minDeviceCollectionInterval, maxDeviceCollectionInterval));
+		effectiveCollectionInterval = interval;
+		if (logger.isDebugEnabled()) {
+			logger.debug(String.format("Next devices collection cycle in %s ms: %s changed devices, %s status changes, response time %s ms", interval, lastCycleChangedDevices,
+					statusChanges, lastCycleResponseTime));
+		}
+		return interval;
+	}
 
 	/**
 	 * This parameter holds timestamp of when we need to stop performing API calls
@@ -233,6 +564,11 @@ public class DanteDirectorCommunicator extends RestCommunicator implements Aggre
 		updateAggregatorStatus();
 	}
 
+	/**
+	 * Receive channels of a device that has none
+	 */
+	private static final ChannelDTO[] EMPTY_CHANNELS = new ChannelDTO[0];
+
 	/**
 	 * A mapper for reading and writing JSON using Jackson library.
 	 * ObjectMapper provides functionality for converting between Java objects and JSON.
@@ -241,14 +577,14 @@ public class DanteDirectorCommunicator extends RestCommunicator implements Aggre
 	ObjectMapper objectMapper = new ObjectMapper();
 
 	/**
-	 * Executor that runs all the async operations, that is posting and
+	 * Executor that runs all the async operations, that is the scheduled devices collection cycles
 	 */
-	private ExecutorService executorService;
+	private volatile ScheduledExecutorService executorService;
 
 	/**
 	 * A private field that represents an instance of the DanteDirectorLoader class, which is responsible for loading device data for Dante Director
 	 */
-	private DanteDirectorDataLoader deviceDataLoader;
+	private volatile DanteDirectorDataLoader deviceDataLoader;
 
 	/**
 	 * A private final ReentrantLock instance used to provide exclusive access to a shared resource
@@ -257,6 +593,12 @@ public class DanteDirectorCommunicator extends RestCommunicator implements Aggre
 	 */
 	private final ReentrantLock reentrantLock = new ReentrantLock();
 
+	/**
+	 * Striped locks serializing the controls of a device, so controls of different devices run in parallel and
+	 * never wait for {@link #reentrantLock}
+	 */
+	private final ReentrantLock[] deviceLocks = new ReentrantLock[DanteDirectorConstant.DEVICE_LOCK_STRIPES];
+
 	/**
 	 * Private variable representing the local extended statistics.
 	 */
@@ -267,20 +609,37 @@ public class DanteDirectorCommunicator extends RestCommunicator implements Aggre
 	 */
 	private AggregatedDeviceProcessor aggregatedDeviceProcessor;
 
+	/**
+	 * Device mapping compiled out of the same model mapping yml, null if the yml uses features it does not support.
+	 */
+	private CompiledDeviceMapping compiledDeviceMapping;
+
 	/**
 	 * A JSON node containing the response from an aggregator.
 	 */
 	private List<JsonNode> domainList = Collections.synchronizedList(new ArrayList<>());
 
 	/**
-	 * List of aggregated device
+	 * Immutable snapshot of the aggregated devices rendered for Symphony.
+	 * Built by the loader once per collection cycle (and after controls), then published atomically,
+	 * so {@link #retrieveMultipleStatistics()} only reads the reference.
+	 */
+	private volatile List<AggregatedDevice> aggregatedDeviceSnapshot = Collections.emptyList();
+
+	/**
+	 * Site names the devices of {@link #aggregatedDeviceSnapshot} were rendered with, as they are the SiteName dropdown options
+	 */
+	private volatile List<String> renderedSiteNames = Collections.emptyList();
+
+	/**
+	 * cache data for aggregated, indexed by device id and kept in the order devices are reported by Dante Director
 	 */
-	private List<AggregatedDevice> aggregatedDeviceList = Collections.synchronizedList(new ArrayList<>());
+	private final Map<String, DeviceCacheEntry> cachedData = Collections.synchronizedMap(new LinkedHashMap<>());
 
 	/**
-	 * cache data for aggregated
+	 * Channel subscriptions across the fleet, updated with the devices that change on each collection cycle
 	 */
-	private List<AggregatedDevice> cachedData = Collections.synchronizedList(new ArrayList<>());
+	private final SubscriptionGraph subscriptionGraph = new SubscriptionGraph();
 
 	/**
 	 * current site value
@@ -288,110 +647,459 @@ public class DanteDirectorCommunicator extends RestCommunicator implements Aggre
 	private JsonNode currentSiteValue;
 
 	/**
-	 * Constructs a new instance of DanteDirectorCommunicator.
-	 *
-	 * @throws IOException If an I/O error occurs while loading the properties mapping YAML file.
+	 * Executor that fetches the devices of each domain in parallel, when {@link #domainCollectionParallelism} is set
 	 */
-	public DanteDirectorCommunicator() throws IOException {
-		Map<String, PropertiesMapping> mapping = new PropertiesMappingParser().loadYML(DanteDirectorConstant.MODEL_MAPPING_AGGREGATED_DEVICE, getClass());
-		aggregatedDeviceProcessor = new AggregatedDeviceProcessor(mapping);
-		this.setTrustAllCertificates(true);
-	}
+	private ExecutorService domainExecutorService;
 
 	/**
-	 * {@inheritDoc}
-	 * <p>
-	 *
-	 * Check for available devices before retrieving the value
-	 * ping latency information to Symphony
+	 * Number of domains whose devices are fetched in parallel.
+	 * 0 (default) keeps a single account wide {@link DanteDirectorQuery#DEVICES_INFO} request per cycle,
+	 * a positive value switches to one {@link DanteDirectorQuery#DOMAIN_DEVICES_INFO} request per domain,
+	 * executed on a worker pool of this size.
 	 */
-	@Override
-	public int ping() throws Exception {
-		if (isInitialized()) {
-			long pingResultTotal = 0L;
+	private int domainCollectionParallelism = 0;
 
-			for (int i = 0; i < this.getPingAttempts(); i++) {
-				long startTime = System.currentTimeMillis();
+	/**
+	 * Maximum age, in milliseconds, of a cached device served by {@link #retrieveMultipleStatistics(List)}.
+	 * Older requested devices are retrieved again with a single {@link DanteDirectorQuery#DEVICES_BY_ID} request
+	 * before being returned. 0 (default) always serves the cached devices.
+	 */
+	private long deviceFreshnessThreshold = 0;
 
-				try (Socket puSocketConnection = new Socket(this.host, this.getPort())) {
-					puSocketConnection.setSoTimeout(this.getPingTimeout());
-					if (puSocketConnection.isConnected()) {
-						long pingResult = System.currentTimeMillis() - startTime;
-						pingResultTotal += pingResult;
-						if (this.logger.isTraceEnabled()) {
-							this.logger.trace(String.format("PING OK: Attempt #%s to connect to %s on port %s succeeded in %s ms", i + 1, host, this.getPort(), pingResult));
-						}
-					} else {
-						if (this.logger.isDebugEnabled()) {
-							logger.debug(String.format("PING DISCONNECTED: Connection to %s did not succeed within the timeout period of %sms", host, this.getPingTimeout()));
-						}
-						return this.getPingTimeout();
-					}
-				} catch (SocketTimeoutException | ConnectException tex) {
-					throw new SocketTimeoutException("Socket connection timed out");
-				} catch (UnknownHostException tex) {
-					throw new SocketTimeoutException("Socket connection timed out" + tex.getMessage());
-				} catch (Exception e) {
-					if (this.logger.isWarnEnabled()) {
-						this.logger.warn(String.format("PING TIMEOUT: Connection to %s did not succeed, UNKNOWN ERROR %s: ", host, e.getMessage()));
-					}
-					return this.getPingTimeout();
-				}
-			}
-			return Math.max(1, Math.toIntExact(pingResultTotal / this.getPingAttempts()));
-		} else {
-			throw new IllegalStateException("Cannot use device class without calling init() first");
-		}
+	/**
+	 * Maximum number of clock synchronisation controls sent together by {@link #controlProperties(List)}, as aliased mutations
+	 * of a single {@link DanteDirectorQuery#CONTROL_CLOCK_SYNC_BATCH} request. 0 (default) sends every control on its own.
+	 */
+	private int controlBatchSize = 0;
 
-	}
+	/**
+	 * Whether clock synchronisation controls are queued and sent asynchronously by {@link #controlExecutorService}.
+	 * Values of the same device property that are still pending are coalesced, so only the last one is sent.
+	 */
+	private boolean asyncControl = false;
 
 	/**
-	 * {@inheritDoc}
+	 * Number of queued controls sent in parallel when {@link #asyncControl} is enabled
 	 */
-	@Override
-	public List<Statistics> getMultipleStatistics() throws Exception {
-		reentrantLock.lock();
-		try {
-			Map<String, String> statistics = new HashMap<>();
-			List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
-			ExtendedStatistics extendedStatistics = new ExtendedStatistics();
-			retrieveSystemInfo();
-			populateSystemInfo(statistics, advancedControllableProperties);
-			extendedStatistics.setStatistics(statistics);
-			extendedStatistics.setControllableProperties(advancedControllableProperties);
-			localExtendedStatistics = extendedStatistics;
-		} finally {
-			reentrantLock.unlock();
-		}
-		return Collections.singletonList(localExtendedStatistics);
-	}
+	private int controlConcurrency = 4;
 
 	/**
-	 * {@inheritDoc}
+	 * Controls waiting to be sent, by device id and property name
 	 */
-	@Override
-	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
-		reentrantLock.lock();
+	private final Map<String, ControllableProperty> pendingControls = new ConcurrentHashMap<>();
+
+	/**
+	 * Time of the last optimistic cache update of a device, by device id, until a device json requested afterwards is merged
+	 */
+	private final Map<String, Long> controlTimestamps = new ConcurrentHashMap<>();
+
+	/**
+	 * Executor that sends the queued controls when {@link #asyncControl} is enabled
+	 */
+	private ExecutorService controlExecutorService;
+
+	/**
+	 * Delay, in milliseconds, after a control before the controlled devices are refreshed with a {@link DanteDirectorQuery#DEVICES_BY_ID}
+	 * request. 0 requests a full collection cycle right after the control instead.
+	 */
+	private long controlReconciliationDelay = 2000;
+
+	/**
+	 * Controlled devices waiting to be refreshed, mapped to the id of the domain they are enrolled in
+	 */
+	private final Map<String, String> pendingReconciliations = new HashMap<>();
+
+	/**
+	 * Whether a refresh of {@link #pendingReconciliations} is scheduled, guarded by {@link #pendingReconciliations}
+	 */
+	private boolean reconciliationScheduled;
+
+	/**
+	 * Retrieves {@link #controlReconciliationDelay}
+	 *
+	 * @return value of {@link #controlReconciliationDelay}
+	 */
+	public long getControlReconciliationDelay() {
+		return controlReconciliationDelay;
+	}
+
+	/**
+	 * Sets {@link #controlReconciliationDelay} value
+	 *
+	 * @param controlReconciliationDelay new value of {@link #controlReconciliationDelay}
+	 */
+	public void setControlReconciliationDelay(long controlReconciliationDelay) {
+		this.controlReconciliationDelay = Math.max(0, controlReconciliationDelay);
+	}
+
+	/**
+	 * Retrieves {@link #asyncControl}
+	 *
+	 * @return value of {@link #asyncControl}
+	 */
+	public boolean isAsyncControl() {
+		return asyncControl;
+	}
+
+	/**
+	 * Sets {@link #asyncControl} value
+	 *
+	 * @param asyncControl new value of {@link #asyncControl}
+	 */
+	public void setAsyncControl(boolean asyncControl) {
+		this.asyncControl = asyncControl;
+	}
+
+	/**
+	 * Retrieves {@link #controlConcurrency}
+	 *
+	 * @return value of {@link #controlConcurrency}
+	 */
+	public int getControlConcurrency() {
+		return controlConcurrency;
+	}
+
+	/**
+	 * Sets {@link #controlConcurrency} value
+	 *
+	 * @param controlConcurrency new value of {@link #controlConcurrency}
+	 */
+	public void setControlConcurrency(int controlConcurrency) {
+		this.controlConcurrency = Math.max(1, controlConcurrency);
+	}
+
+	/**
+	 * Retrieves {@link #controlBatchSize}
+	 *
+	 * @return value of {@link #controlBatchSize}
+	 */
+	public int getControlBatchSize() {
+		return controlBatchSize;
+	}
+
+	/**
+	 * Sets {@link #controlBatchSize} value
+	 *
+	 * @param controlBatchSize new value of {@link #controlBatchSize}
+	 */
+	public void setControlBatchSize(int controlBatchSize) {
+		this.controlBatchSize = Math.max(0, controlBatchSize);
+	}
+
+	/**
+	 * Time, in milliseconds, during which the last {@link DanteDirectorQuery#SYSTEM_INFO} response is reused by
+	 * {@link #getMultipleStatistics()} instead of being requested again. 0 requests it on every call.
+	 */
+	private long systemInfoCacheTime = 5000;
+
+	/**
+	 * Last successful {@link DanteDirectorQuery#SYSTEM_INFO} response
+	 */
+	private volatile JsonNode systemInfoResponse;
+
+	/**
+	 * Time the last successful {@link DanteDirectorQuery#SYSTEM_INFO} request was sent, in milliseconds
+	 */
+	private volatile long systemInfoTimestamp;
+
+	/**
+	 * GraphQL queries in flight, by request body, shared with the callers posting the same query concurrently
+	 */
+	private final Map<String, CompletableFuture<JsonNode>> inFlightQueries = new ConcurrentHashMap<>();
+
+	/**
+	 * Whether the loader retrieves the domains together with their devices in a single {@link DanteDirectorQuery#DOMAINS_DEVICES_INFO}
+	 * request per cycle, serving {@link #getMultipleStatistics()} from its result while it is younger than two collection intervals.
+	 * Domain scoped collection is not used in this mode.
+	 */
+	private boolean combinedCollection = false;
+
+	/**
+	 * Retrieves {@link #combinedCollection}
+	 *
+	 * @return value of {@link #combinedCollection}
+	 */
+	public boolean isCombinedCollection() {
+		return combinedCollection;
+	}
+
+	/**
+	 * Sets {@link #combinedCollection} value
+	 *
+	 * @param combinedCollection new value of {@link #combinedCollection}
+	 */
+	public void setCombinedCollection(boolean combinedCollection) {
+		this.combinedCollection = combinedCollection;
+	}
+
+	/**
+	 * Whether the account wide device responses are parsed as a stream, mapping every device as soon as it is read
+	 * instead of building the tree of the whole response first. Domain scoped collection is not affected.
+	 */
+	private boolean streamingIngest = false;
+
+	/**
+	 * Retrieves {@link #streamingIngest}
+	 *
+	 * @return value of {@link #streamingIngest}
+	 */
+	public boolean isStreamingIngest() {
+		return streamingIngest;
+	}
+
+	/**
+	 * Sets {@link #streamingIngest} value
+	 *
+	 * @param streamingIngest new value of {@link #streamingIngest}
+	 */
+	public void setStreamingIngest(boolean streamingIngest) {
+		this.streamingIngest = streamingIngest;
+	}
+
+	/**
+	 * Whether devices are mapped by the {@link CompiledDeviceMapping} compiled out of the model mapping yml,
+	 * instead of evaluating the expressions of the yml for every device with the {@link AggregatedDeviceProcessor}.
+	 */
+	private boolean compiledMapping = false;
+
+	/**
+	 * Retrieves {@link #compiledMapping}
+	 *
+	 * @return value of {@link #compiledMapping}
+	 */
+	public boolean isCompiledMapping() {
+		return compiledMapping;
+	}
+
+	/**
+	 * Sets {@link #compiledMapping} value
+	 *
+	 * @param compiledMapping new value of {@link #compiledMapping}
+	 */
+	public void setCompiledMapping(boolean compiledMapping) {
+		this.compiledMapping = compiledMapping;
+	}
+
+	/**
+	 * Retrieves {@link #systemInfoCacheTime}
+	 *
+	 * @return value of {@link #systemInfoCacheTime}
+	 */
+	public long getSystemInfoCacheTime() {
+		return systemInfoCacheTime;
+	}
+
+	/**
+	 * Sets {@link #systemInfoCacheTime} value
+	 *
+	 * @param systemInfoCacheTime new value of {@link #systemInfoCacheTime}
+	 */
+	public void setSystemInfoCacheTime(long systemInfoCacheTime) {
+		this.systemInfoCacheTime = Math.max(0, systemInfoCacheTime);
+	}
+
+	/**
+	 * Retrieves {@link #deviceFreshnessThreshold}
+	 *
+	 * @return value of {@link #deviceFreshnessThreshold}
+	 */
+	public long getDeviceFreshnessThreshold() {
+		return deviceFreshnessThreshold;
+	}
+
+	/**
+	 * Sets {@link #deviceFreshnessThreshold} value
+	 *
+	 * @param deviceFreshnessThreshold new value of {@link #deviceFreshnessThreshold}
+	 */
+	public void setDeviceFreshnessThreshold(long deviceFreshnessThreshold) {
+		this.deviceFreshnessThreshold = Math.max(0, deviceFreshnessThreshold);
+	}
+
+	/**
+	 * Retrieves {@link #domainCollectionParallelism}
+	 *
+	 * @return value of {@link #domainCollectionParallelism}
+	 */
+	public int getDomainCollectionParallelism() {
+		return domainCollectionParallelism;
+	}
+
+	/**
+	 * Sets {@link #domainCollectionParallelism} value
+	 *
+	 * @param domainCollectionParallelism new value of {@link #domainCollectionParallelism}
+	 */
+	public void setDomainCollectionParallelism(int domainCollectionParallelism) {
+		this.domainCollectionParallelism = Math.max(0, domainCollectionParallelism);
+	}
+
+	/**
+	 * Retrieves {@link #metricsPort}
+	 *
+	 * @return value of {@link #metricsPort}
+	 */
+	public int getMetricsPort() {
+		return metricsPort;
+	}
+
+	/**
+	 * Sets {@link #metricsPort} value
+	 *
+	 * @param metricsPort new value of {@link #metricsPort}
+	 */
+	public void setMetricsPort(int metricsPort) {
+		this.metricsPort = Math.max(0, metricsPort);
+	}
+
+	/**
+	 * Retrieves {@link #warmStartFile}
+	 *
+	 * @return value of {@link #warmStartFile}
+	 */
+	public String getWarmStartFile() {
+		return warmStartFile;
+	}
+
+	/**
+	 * Sets {@link #warmStartFile} value
+	 *
+	 * @param warmStartFile new value of {@link #warmStartFile}
+	 */
+	public void setWarmStartFile(String warmStartFile) {
+		this.warmStartFile = warmStartFile == null ? "" : warmStartFile.trim();
+	}
+
+	/**
+	 * Constructs a new instance of DanteDirectorCommunicator.
+	 *
+	 * @throws IOException If an I/O error occurs while loading the properties mapping YAML file.
+	 */
+	public DanteDirectorCommunicator() throws IOException {
+		Map<String, PropertiesMapping> mapping = new PropertiesMappingParser().loadYML(DanteDirectorConstant.MODEL_MAPPING_AGGREGATED_DEVICE, getClass());
+		aggregatedDeviceProcessor = new AggregatedDeviceProcessor(mapping);
 		try {
-			String property = controllableProperty.getProperty();
-			String deviceId = controllableProperty.getDeviceId();
-			String value = String.valueOf(controllableProperty.getValue());
+			compiledDeviceMapping = new CompiledDeviceMapping(mapping);
+		} catch (IllegalArgumentException e) {
+			logger.warn("Unable to compile the device mapping, devices are mapped by the properties processor", e);
+		}
+		for (int i = 0; i < deviceLocks.length; i++) {
+			deviceLocks[i] = new ReentrantLock();
+		}
+		this.setTrustAllCertificates(true);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * Check for available devices before retrieving the value
+	 * ping latency information to Symphony
+	 */
+	@Override
+	public int ping() throws Exception {
+		if (isInitialized()) {
+			long pingResultTotal = 0L;
+
+			for (int i = 0; i < this.getPingAttempts(); i++) {
+				long startTime = System.currentTimeMillis();
+
+				try (Socket puSocketConnection = new Socket(this.host, this.getPort())) {
+					puSocketConnection.setSoTimeout(this.getPingTimeout());
+					if (puSocketConnection.isConnected()) {
+						long pingResult = System.currentTimeMillis() - startTime;
+						pingResultTotal += pingResult;
+						if (this.logger.isTraceEnabled()) {
+							this.logger.trace(String.format("PING OK: Attempt #%s to connect to %s on port %s succeeded in %s ms", i + 1, host, this.getPort(), pingResult));
+						}
+					} else {
+						if (this.logger.isDebugEnabled()) {
+							logger.debug(String.format("PING DISCONNECTED: Connection to %s did not succeed within the timeout period of %sms", host, this.getPingTimeout()));
+						}
+						return this.getPingTimeout();
+					}
+				} catch (SocketTimeoutException | ConnectException tex) {
+					throw new SocketTimeoutException("Socket connection timed out");
+				} catch (UnknownHostException tex) {
+					throw new SocketTimeoutException("Socket connection timed out" + tex.getMessage());
+				} catch (Exception e) {
+					if (this.logger.isWarnEnabled()) {
+						this.logger.warn(String.format("PING TIMEOUT: Connection to %s did not succeed, UNKNOWN ERROR %s: ", host, e.getMessage()));
+					}
+					return this.getPingTimeout();
+				}
+			}
+			return Math.max(1, Math.toIntExact(pingResultTotal / this.getPingAttempts()));
+		} else {
+			throw new IllegalStateException("Cannot use device class without calling init() first");
+		}
 
-			String[] propertyList = property.split(DanteDirectorConstant.HASH);
-			String propertyName = property;
-			if (property.contains(DanteDirectorConstant.HASH)) {
-				propertyName = propertyList[1];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<Statistics> getMultipleStatistics() throws Exception {
+		reentrantLock.lock();
+		try {
+			Map<String, String> statistics = new HashMap<>();
+			List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
+			ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+			retrieveSystemInfo();
+			populateSystemInfo(statistics, advancedControllableProperties);
+			if (adaptiveCollectionInterval) {
+				statistics.put(DanteDirectorConstant.EFFECTIVE_COLLECTION_INTERVAL, String.valueOf(effectiveCollectionInterval / 1000));
 			}
-			if (DanteDirectorConstant.SITE_NAME.equals(propertyName)) {
+			adapterMetrics.populateStatistics(statistics);
+			statistics.put(DanteDirectorConstant.CHANNEL_SUBSCRIPTIONS_GROUP + AggregatedInformation.BROKEN_SUBSCRIPTIONS.getName(),
+					String.valueOf(subscriptionGraph.getBrokenSubscriptions()));
+			if (restoredSnapshotTime > 0) {
+				statistics.put(DanteDirectorConstant.WARM_START_SNAPSHOT, formatTimestamp(restoredSnapshotTime));
+			}
+			extendedStatistics.setStatistics(statistics);
+			extendedStatistics.setControllableProperties(advancedControllableProperties);
+			localExtendedStatistics = extendedStatistics;
+		} finally {
+			reentrantLock.unlock();
+		}
+		return Collections.singletonList(localExtendedStatistics);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
+		String property = controllableProperty.getProperty();
+		String deviceId = controllableProperty.getDeviceId();
+		String value = String.valueOf(controllableProperty.getValue());
+
+		String[] propertyList = property.split(DanteDirectorConstant.HASH);
+		String propertyName = property;
+		if (property.contains(DanteDirectorConstant.HASH)) {
+			propertyName = propertyList[1];
+		}
+		if (DanteDirectorConstant.SITE_NAME.equals(propertyName)) {
+			reentrantLock.lock();
+			try {
 				Optional<JsonNode> matchingDomain = domainList.stream().filter(item -> item.get(DanteDirectorConstant.NAME).asText().equals(value)).findFirst();
 				if (matchingDomain.isPresent()) {
 					currentSiteValue = matchingDomain.get();
 				} else {
 					throw new IllegalArgumentException("Error when control SiteName");
 				}
-			} else {
-				Optional<AggregatedDevice> aggregatedDevice = aggregatedDeviceList.stream().filter(item -> item.getDeviceId().equals(deviceId)).findFirst();
-				if (aggregatedDevice.isPresent()) {
+			} finally {
+				reentrantLock.unlock();
+			}
+		} else if (asyncControl && isClockControl(controllableProperty)) {
+			enqueueControl(controllableProperty);
+		} else {
+			List<ReentrantLock> locks = lockDevices(Collections.singletonList(deviceId));
+			try {
+				DeviceCacheEntry cachedEntry = deviceId == null ? null : cachedData.get(deviceId);
+				if (cachedEntry != null) {
+					String reconciledDomainId = cachedEntry.getDomainId();
 					AggregatedInformation item = AggregatedInformation.getByDefaultName(propertyName);
 					switch (item) {
 						case LEADER:
@@ -408,308 +1116,1586 @@ public class DanteDirectorCommunicator extends RestCommunicator implements Aggre
 							if (!node.isPresent()) {
 								throw new IllegalArgumentException("Error when control SiteName with value is " + value);
 							}
-							sendCommandToControlTheSiteName(deviceId, node.get().get(DanteDirectorConstant.ID).asText(), value);
-							updateCacheValue(deviceId, propertyName, value);
-							for (AggregatedControllableProperty control : AggregatedControllableProperty.values()) {
-								updateCacheValue(deviceId, control.getName(), "false");
-							}
+							reconciledDomainId = node.get().get(DanteDirectorConstant.ID).asText();
+							sendCommandToControlTheSiteName(Collections.singletonList(deviceId), reconciledDomainId, value);
+							updateCacheValues(deviceId, siteChangeCacheValues(value));
 							break;
 						default:
 							if (logger.isWarnEnabled()) {
 								logger.warn(String.format("Unable to execute %s command on device %s: Not Supported", property, deviceId));
 							}
-							break;
+							// nothing was controlled, so there is nothing to publish or reconcile
+							return;
+					}
+					cloneAndPopulateAggregatedDeviceList();
+					reconcileDevices(Collections.singletonMap(deviceId, reconciledDomainId));
+				} else {
+					throw new IllegalArgumentException(String.format("Unable to control property: %s as the device does not exist.", property));
+				}
+			} finally {
+				unlockDevices(locks);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void controlProperties(List<ControllableProperty> controllableProperties) throws Exception {
+		if (CollectionUtils.isEmpty(controllableProperties)) {
+			throw new IllegalArgumentException("ControllableProperties can not be null or empty");
+		}
+		Map<String, List<ControllableProperty>> siteControls = new LinkedHashMap<>();
+		for (ControllableProperty p : controllableProperties) {
+			if (isSiteControl(p)) {
+				siteControls.computeIfAbsent(String.valueOf(p.getValue()), key -> new ArrayList<>()).add(p);
+			}
+		}
+		siteControls.values().removeIf(controls -> controls.size() < 2);
+
+		int batchSize = controlBatchSize;
+		List<ControllableProperty> clockControls = new ArrayList<>();
+		for (ControllableProperty p : controllableProperties) {
+			if (isSiteControl(p) && siteControls.containsKey(String.valueOf(p.getValue()))) {
+				continue;
+			}
+			if (batchSize > 0 && isClockControl(p)) {
+				clockControls.add(p);
+				continue;
+			}
+			try {
+				controlProperty(p);
+			} catch (Exception e) {
+				logger.error(String.format("Error when control property %s", p.getProperty()), e);
+			}
+		}
+		if (siteControls.isEmpty() && clockControls.isEmpty()) {
+			return;
+		}
+		Set<String> deviceIds = new HashSet<>();
+		for (List<ControllableProperty> controls : siteControls.values()) {
+			controls.forEach(control -> deviceIds.add(control.getDeviceId()));
+		}
+		clockControls.forEach(control -> deviceIds.add(control.getDeviceId()));
+		List<ReentrantLock> locks = lockDevices(deviceIds);
+		try {
+			Map<String, String> reconciledDomainIds = new HashMap<>();
+			for (Map.Entry<String, List<ControllableProperty>> siteControl : siteControls.entrySet()) {
+				sendBulkSiteControls(siteControl.getKey(), siteControl.getValue(), reconciledDomainIds);
+			}
+			for (int i = 0; i < clockControls.size(); i += batchSize) {
+				sendBatchedClockControls(clockControls.subList(i, Math.min(i + batchSize, clockControls.size())));
+			}
+			for (ControllableProperty control : clockControls) {
+				DeviceCacheEntry entry = cachedData.get(control.getDeviceId());
+				if (entry != null) {
+					reconciledDomainIds.putIfAbsent(control.getDeviceId(), entry.getDomainId());
+				}
+			}
+			cloneAndPopulateAggregatedDeviceList();
+			reconcileDevices(reconciledDomainIds);
+		} finally {
+			unlockDevices(locks);
+		}
+	}
+
+	/**
+	 * Queues a clock synchronisation control to be sent by {@link #controlExecutorService}, and applies its value to the cache
+	 * right away. A control still pending for the same device property is replaced, so only the last value is sent.
+	 *
+	 * @param controllableProperty the clock synchronisation control
+	 */
+	private void enqueueControl(ControllableProperty controllableProperty) {
+		AggregatedControllableProperty aggregatedProperty = getControlledProperty(controllableProperty);
+		String deviceId = controllableProperty.getDeviceId();
+		String requestValue = getControlRequestValue(controllableProperty);
+		String key = deviceId + DanteDirectorConstant.HASH + aggregatedProperty.getName();
+
+		ControllableProperty replacedProperty = pendingControls.put(key, controllableProperty);
+		updateCacheValue(deviceId, aggregatedProperty.getName(), requestValue);
+		cloneAndPopulateAggregatedDeviceList();
+		if (replacedProperty != null) {
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Pending control %s of device %s replaced with value %s", aggregatedProperty.getName(), deviceId, requestValue));
+			}
+			return;
+		}
+		synchronized (pendingControls) {
+			if (controlExecutorService == null) {
+				controlExecutorService = Executors.newFixedThreadPool(controlConcurrency);
+			}
+			controlExecutorService.execute(() -> sendPendingControl(key));
+		}
+	}
+
+	/**
+	 * Sends the pending control of a device property, holding the lock of the device so its controls stay serialized.
+	 * The control stays pending until it is sent, so collection cycles keep its value; a value queued in the meantime is
+	 * sent next. The device is reconciled with the reported state afterwards.
+	 *
+	 * @param key the device id and the property name of the pending control
+	 */
+	private void sendPendingControl(String key) {
+		ControllableProperty controllableProperty = pendingControls.get(key);
+		if (controllableProperty == null) {
+			return;
+		}
+		String deviceId = controllableProperty.getDeviceId();
+		List<ReentrantLock> locks = lockDevices(Collections.singletonList(deviceId));
+		try {
+			controllableProperty = pendingControls.get(key);
+			while (controllableProperty != null) {
+				AggregatedControllableProperty aggregatedProperty = getControlledProperty(controllableProperty);
+				String requestValue = getControlRequestValue(controllableProperty);
+				boolean succeeded = false;
+				try {
+					sendCommandToControlDevice(deviceId, requestValue, aggregatedProperty);
+					succeeded = true;
+				} catch (Exception e) {
+					logger.error(String.format("Error when control property %s of device %s", controllableProperty.getProperty(), deviceId), e);
+				}
+				if (pendingControls.remove(key, controllableProperty)) {
+					if (succeeded) {
+						updateCacheValue(deviceId, aggregatedProperty.getName(), requestValue);
+						cloneAndPopulateAggregatedDeviceList();
+					}
+					break;
+				}
+				controllableProperty = pendingControls.get(key);
+			}
+			DeviceCacheEntry entry = cachedData.get(deviceId);
+			if (entry != null) {
+				reconcileDevices(Collections.singletonMap(deviceId, entry.getDomainId()));
+			}
+		} finally {
+			unlockDevices(locks);
+		}
+	}
+
+	/**
+	 * Applies the values of the controls still pending for a device to its freshly mapped properties.
+	 *
+	 * @param deviceId the id of the device
+	 * @param properties the mapped properties of the device
+	 * @return true if any pending value was applied; false otherwise
+	 */
+	private boolean applyPendingControls(String deviceId, Map<String, String> properties) {
+		boolean applied = false;
+		for (ControllableProperty controllableProperty : pendingControls.values()) {
+			if (deviceId.equals(controllableProperty.getDeviceId())) {
+				properties.put(getControlledProperty(controllableProperty).getName(), getControlRequestValue(controllableProperty));
+				applied = true;
+			}
+		}
+		return applied;
+	}
+
+	/**
+	 * Retrieves the clock synchronisation property of a control.
+	 *
+	 * @param controllableProperty the control
+	 * @return the controlled property, or null if it is not a clock synchronisation property
+	 */
+	private AggregatedControllableProperty getControlledProperty(ControllableProperty controllableProperty) {
+		String[] propertyList = controllableProperty.getProperty().split(DanteDirectorConstant.HASH);
+		return AggregatedControllableProperty.getByDefaultName(propertyList[propertyList.length - 1]);
+	}
+
+	/**
+	 * Converts the switch value of a control into the value sent to Dante Director.
+	 *
+	 * @param controllableProperty the control
+	 * @return {@link DanteDirectorConstant#TRUE} when the switch is on; {@link DanteDirectorConstant#FALSE} otherwise
+	 */
+	private String getControlRequestValue(ControllableProperty controllableProperty) {
+		return DanteDirectorConstant.NUMBER_ONE.equals(String.valueOf(controllableProperty.getValue())) ? DanteDirectorConstant.TRUE : DanteDirectorConstant.FALSE;
+	}
+
+	/**
+	 * Acquires the striped locks of the given devices, in stripe order so concurrent callers cannot deadlock.
+	 *
+	 * @param deviceIds ids of the devices, a null id is mapped to the first stripe
+	 * @return the acquired locks, to be released with {@link #unlockDevices(List)}
+	 */
+	private List<ReentrantLock> lockDevices(Collection<String> deviceIds) {
+		Set<Integer> stripes = new TreeSet<>();
+		for (String deviceId : deviceIds) {
+			stripes.add(deviceId == null ? 0 : (deviceId.hashCode() & Integer.MAX_VALUE) % deviceLocks.length);
+		}
+		List<ReentrantLock> locks = new ArrayList<>(stripes.size());
+		for (Integer stripe : stripes) {
+			deviceLocks[stripe].lock();
+			locks.add(deviceLocks[stripe]);
+		}
+		return locks;
+	}
+
+	/**
+	 * Releases locks acquired with {@link #lockDevices(Collection)}, in reverse order.
+	 *
+	 * @param locks the acquired locks
+	 */
+	private void unlockDevices(List<ReentrantLock> locks) {
+		for (int i = locks.size() - 1; i >= 0; i--) {
+			locks.get(i).unlock();
+		}
+	}
+
+	/**
+	 * Checks whether a controllable property is a site change of a known device, which can be enrolled in bulk.
+	 *
+	 * @param controllableProperty the controllable property
+	 * @return true if the property changes the site of a device; false otherwise
+	 */
+	private boolean isSiteControl(ControllableProperty controllableProperty) {
+		String property = controllableProperty.getProperty();
+		if (property == null || controllableProperty.getDeviceId() == null || !cachedData.containsKey(controllableProperty.getDeviceId())) {
+			return false;
+		}
+		String[] propertyList = property.split(DanteDirectorConstant.HASH);
+		return AggregatedInformation.getByDefaultName(propertyList[propertyList.length - 1]) == AggregatedInformation.SITE_NAME;
+	}
+
+	/**
+	 * Enrolls every device of a list of site changes targeting the same site with a single {@link DanteDirectorQuery#CONTROL_SITE}
+	 * request, then updates the cache of the enrolled devices. Any error is logged.
+	 *
+	 * @param siteName the name of the target site
+	 * @param controllableProperties the site changes targeting the site
+	 * @param reconciledDomainIds map to record the new domain id of every enrolled device into
+	 */
+	private void sendBulkSiteControls(String siteName, List<ControllableProperty> controllableProperties, Map<String, String> reconciledDomainIds) {
+		List<String> deviceIds = controllableProperties.stream().map(ControllableProperty::getDeviceId).distinct().collect(Collectors.toList());
+		Optional<JsonNode> node = domainList.stream().filter(itemValue -> itemValue.get(DanteDirectorConstant.NAME).asText().equals(siteName)).findFirst();
+		if (!node.isPresent()) {
+			logger.error(String.format("Error when control SiteName of devices %s with value is %s", deviceIds, siteName));
+			return;
+		}
+		String domainId = node.get().get(DanteDirectorConstant.ID).asText();
+		try {
+			sendCommandToControlTheSiteName(deviceIds, domainId, siteName);
+		} catch (Exception e) {
+			logger.error(String.format("Error when control SiteName of devices %s", deviceIds), e);
+			return;
+		}
+		Map<String, String> values = siteChangeCacheValues(siteName);
+		for (String deviceId : deviceIds) {
+			updateCacheValues(deviceId, values);
+			reconciledDomainIds.put(deviceId, domainId);
+		}
+	}
+
+	/**
+	 * Builds the cached values replaced by a site change: the site itself, and the clock synchronisation preferences that
+	 * are reset by the enrollment.
+	 *
+	 * @param siteName the name of the new site
+	 * @return map of property names to cached values
+	 */
+	private Map<String, String> siteChangeCacheValues(String siteName) {
+		Map<String, String> values = new HashMap<>();
+		values.put(AggregatedInformation.SITE_NAME.getName(), siteName);
+		for (AggregatedControllableProperty control : AggregatedControllableProperty.values()) {
+			values.put(control.getName(), DanteDirectorConstant.FALSE);
+		}
+		return values;
+	}
+
+	/**
+	 * Checks whether a controllable property is a clock synchronisation control of a known device, which can be batched.
+	 *
+	 * @param controllableProperty the controllable property
+	 * @return true if the property can be sent in a batch; false otherwise
+	 */
+	private boolean isClockControl(ControllableProperty controllableProperty) {
+		String property = controllableProperty.getProperty();
+		if (property == null || controllableProperty.getDeviceId() == null || !cachedData.containsKey(controllableProperty.getDeviceId())) {
+			return false;
+		}
+		String[] propertyList = property.split(DanteDirectorConstant.HASH);
+		return AggregatedControllableProperty.getByDefaultName(propertyList[propertyList.length - 1]) != null;
+	}
+
+	/**
+	 * Sends a batch of clock synchronisation controls with a single {@link DanteDirectorQuery#CONTROL_CLOCK_SYNC_BATCH} request,
+	 * one aliased mutation per control. The cache is updated for every control whose mutation succeeded, while the failed
+	 * ones are logged.
+	 *
+	 * @param controllableProperties the clock synchronisation controls
+	 */
+	private void sendBatchedClockControls(List<ControllableProperty> controllableProperties) {
+		StringBuilder variableDefinitions = new StringBuilder();
+		StringBuilder selections = new StringBuilder();
+		ObjectNode variables = objectMapper.createObjectNode();
+		String[] requestValues = new String[controllableProperties.size()];
+		AggregatedControllableProperty[] aggregatedProperties = new AggregatedControllableProperty[controllableProperties.size()];
+		for (int i = 0; i < controllableProperties.size(); i++) {
+			ControllableProperty controllableProperty = controllableProperties.get(i);
+			String[] propertyList = controllableProperty.getProperty().split(DanteDirectorConstant.HASH);
+			aggregatedProperties[i] = AggregatedControllableProperty.getByDefaultName(propertyList[propertyList.length - 1]);
+			requestValues[i] = DanteDirectorConstant.NUMBER_ONE.equals(String.valueOf(controllableProperty.getValue())) ? DanteDirectorConstant.TRUE : DanteDirectorConstant.FALSE;
+			if (i > 0) {
+				variableDefinitions.append(", ");
+			}
+			variableDefinitions.append(String.format(DanteDirectorQuery.CONTROL_CLOCK_SYNC_VARIABLES, i, aggregatedProperties[i].getCommandParam()));
+			selections.append(String.format(DanteDirectorQuery.CONTROL_CLOCK_SYNC_SELECTION, i, aggregatedProperties[i].getCommandName()));
+			ObjectNode input = variables.putObject(DanteDirectorConstant.INPUT + i);
+			input.put(DanteDirectorConstant.DEVICE_ID, controllableProperty.getDeviceId());
+			input.put(DanteDirectorConstant.ENABLED, Boolean.parseBoolean(requestValues[i]));
+		}
+
+		JsonNode response;
+		try {
+			ObjectNode request = objectMapper.createObjectNode();
+			request.put(DanteDirectorConstant.QUERY, String.format(DanteDirectorQuery.CONTROL_CLOCK_SYNC_BATCH, variableDefinitions, selections));
+			request.set(DanteDirectorConstant.VARIABLES, variables);
+			response = this.doPost(DanteDirectorConstant.URL, objectMapper.writeValueAsString(request), JsonNode.class);
+		} catch (Exception e) {
+			adapterMetrics.recordControls(controllableProperties.size(), false);
+			logger.error(String.format("Error when control %s clock synchronisation properties", controllableProperties.size()), e);
+			return;
+		}
+
+		Map<String, String> errorMessages = new HashMap<>();
+		JsonNode errors = response.get(DanteDirectorConstant.ERRORS);
+		if (errors != null) {
+			adapterMetrics.recordErrorResponse();
+		}
+		if (errors != null && errors.isArray()) {
+			for (JsonNode error : errors) {
+				JsonNode path = error.get(DanteDirectorConstant.PATH);
+				String alias = path != null && path.size() > 0 ? path.get(0).asText() : null;
+				errorMessages.put(alias, getTextValue(error, DanteDirectorConstant.MESSAGE));
+			}
+		}
+		JsonNode data = response.get(DanteDirectorConstant.DATA);
+		for (int i = 0; i < controllableProperties.size(); i++) {
+			ControllableProperty controllableProperty = controllableProperties.get(i);
+			String alias = DanteDirectorConstant.CONTROL + i;
+			JsonNode result = data == null ? null : data.get(alias);
+			if (result != null && result.path(DanteDirectorConstant.OK).asBoolean(false) && !errorMessages.containsKey(alias)) {
+				adapterMetrics.recordControls(1, true);
+				updateCacheValue(controllableProperty.getDeviceId(), aggregatedProperties[i].getName(), requestValues[i]);
+			} else {
+				adapterMetrics.recordControls(1, false);
+				String message = errorMessages.containsKey(alias) ? errorMessages.get(alias) : errorMessages.get(null);
+				logger.error(String.format("Error when control property %s of device %s: %s", controllableProperty.getProperty(), controllableProperty.getDeviceId(),
+						message == null ? "The command response is error" : message));
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<AggregatedDevice> retrieveMultipleStatistics() throws Exception {
+		if (executorService == null) {
+			startDataLoader();
+		}
+		updateValidRetrieveStatisticsTimestamp();
+		DanteDirectorDataLoader loader = deviceDataLoader;
+		if (loader != null) {
+			loader.resume();
+		}
+		return aggregatedDeviceSnapshot;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<AggregatedDevice> retrieveMultipleStatistics(List<String> list) throws Exception {
+		retrieveMultipleStatistics();
+		Set<String> deviceIds = new LinkedHashSet<>(list);
+		if (deviceFreshnessThreshold > 0) {
+			refreshOutdatedDevices(deviceIds);
+		}
+		List<AggregatedDevice> aggregatedDevices = new ArrayList<>(deviceIds.size());
+		for (String deviceId : deviceIds) {
+			DeviceCacheEntry entry = cachedData.get(deviceId);
+			if (entry == null) {
+				continue;
+			}
+			AggregatedDevice renderedDevice = entry.getRenderedDevice();
+			if (renderedDevice == null) {
+				// rendered under the cache lock, as cloneAndPopulateAggregatedDeviceList does, so a control cannot update the
+				// device while it is read nor have its values replaced by a copy rendered from the previous ones
+				synchronized (cachedData) {
+					renderedDevice = entry.getRenderedDevice();
+					if (renderedDevice == null) {
+						renderedDevice = renderAggregatedDevice(entry, renderedSiteNames);
+						entry.setRenderedDevice(renderedDevice);
+					}
+				}
+			}
+			aggregatedDevices.add(renderedDevice);
+		}
+		return aggregatedDevices;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * set API Key into Header of Request
+	 */
+	@Override
+	protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) {
+		headers.set("Authorization", this.getPassword());
+		return headers;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Records every request into {@link #adapterMetrics}
+	 */
+	@Override
+	protected RestTemplate obtainRestTemplate() throws Exception {
+		RestTemplate restTemplate = super.obtainRestTemplate();
+		List<ClientHttpRequestInterceptor> interceptors = restTemplate.getInterceptors();
+		if (!interceptors.contains(metricsRequestInterceptor)) {
+			synchronized (interceptors) {
+				if (!interceptors.contains(metricsRequestInterceptor)) {
+					interceptors.add(metricsRequestInterceptor);
+				}
+			}
+		}
+		return restTemplate;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void authenticate() throws Exception {
+
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalInit() throws Exception {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Internal init is called.");
+		}
+		if (metricsPort > 0) {
+			try {
+				metricsEndpoint.start(metricsPort);
+			} catch (IOException e) {
+				logger.error(String.format("Unable to serve the metrics on port %s", metricsPort), e);
+			}
+		}
+		restoreSnapshot();
+		startDataLoader();
+		super.internalInit();
+	}
+
+	/**
+	 * Refreshes controlled devices with the state reported by Dante Director, {@link #controlReconciliationDelay} after the control.
+	 * Devices controlled before the refresh runs are refreshed together, with a single {@link DanteDirectorQuery#DEVICES_BY_ID} request
+	 * executed on {@link #executorService} in between collection cycles.
+	 * When the delay is 0, a full collection cycle is requested instead.
+	 *
+	 * @param domainIdsByDeviceId ids of the controlled devices, mapped to the id of the domain they are enrolled in after the control
+	 */
+	private void reconcileDevices(Map<String, String> domainIdsByDeviceId) {
+		long delay = controlReconciliationDelay;
+		if (delay <= 0) {
+			requestDevicesCollection();
+			return;
+		}
+		if (domainIdsByDeviceId.isEmpty()) {
+			return;
+		}
+		synchronized (pendingReconciliations) {
+			pendingReconciliations.putAll(domainIdsByDeviceId);
+			ScheduledExecutorService scheduler = executorService;
+			if (reconciliationScheduled || scheduler == null) {
+				return;
+			}
+			try {
+				scheduler.schedule(this::reconcilePendingDevices, delay, TimeUnit.MILLISECONDS);
+				reconciliationScheduled = true;
+			} catch (RejectedExecutionException e) {
+				pendingReconciliations.clear();
+			}
+		}
+	}
+
+	/**
+	 * Refreshes every device waiting for reconciliation. If any of them is not reported, a full collection cycle is requested.
+	 */
+	private void reconcilePendingDevices() {
+		Map<String, String> domainIdsByDeviceId;
+		synchronized (pendingReconciliations) {
+			reconciliationScheduled = false;
+			domainIdsByDeviceId = new LinkedHashMap<>(pendingReconciliations);
+			pendingReconciliations.clear();
+		}
+		if (!domainIdsByDeviceId.isEmpty() && !refreshDevices(domainIdsByDeviceId)) {
+			requestDevicesCollection();
+		}
+	}
+
+	/**
+	 * Wakes the devices data loader up, so a collection cycle starts as soon as possible.
+	 */
+	private void requestDevicesCollection() {
+		nextInventoryCollectionTimestamp = 0;
+		DanteDirectorDataLoader loader = deviceDataLoader;
+		if (loader != null) {
+			loader.requestCollection();
+		}
+	}
+
+	/**
+	 * Creates the scheduler and starts the devices data loader.
+	 */
+	private synchronized void startDataLoader() {
+		if (executorService != null) {
+			return;
+		}
+		executorService = Executors.newSingleThreadScheduledExecutor();
+		deviceDataLoader = new DanteDirectorDataLoader();
+		deviceDataLoader.requestCollection();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalDestroy() {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Internal destroy is called.");
+		}
+		metricsEndpoint.stop();
+		if (deviceDataLoader != null) {
+			deviceDataLoader.stop();
+			deviceDataLoader = null;
+		}
+		if (executorService != null) {
+			executorService.shutdownNow();
+			awaitTermination(executorService);
+			executorService = null;
+		}
+		// the loader is done, so the final snapshot holds the devices of its last cycle
+		persistSnapshot();
+		restoredSnapshotTime = 0;
+		if (domainExecutorService != null) {
+			domainExecutorService.shutdownNow();
+			domainExecutorService = null;
+		}
+		synchronized (pendingControls) {
+			if (controlExecutorService != null) {
+				controlExecutorService.shutdownNow();
+				controlExecutorService = null;
+			}
+			pendingControls.clear();
+		}
+		controlTimestamps.clear();
+		synchronized (pendingReconciliations) {
+			pendingReconciliations.clear();
+			reconciliationScheduled = false;
+		}
+		if (localExtendedStatistics != null && localExtendedStatistics.getStatistics() != null && localExtendedStatistics.getControllableProperties() != null) {
+			localExtendedStatistics.getStatistics().clear();
+			localExtendedStatistics.getControllableProperties().clear();
+		}
+		domainList = null;
+		currentSiteValue = null;
+		systemInfoResponse = null;
+		aggregatedDeviceSnapshot = Collections.emptyList();
+		cachedData.clear();
+		subscriptionGraph.clear();
+		fleetGauges.clear();
+		super.internalDestroy();
+	}
+
+	/**
+	 * Waits for the task in progress on a shut down executor, that is the collection cycle of the data loader, to complete.
+	 *
+	 * @param executor the shut down executor
+	 */
+	private void awaitTermination(ExecutorService executor) {
+		try {
+			if (!executor.awaitTermination(DanteDirectorConstant.LOADER_TERMINATION_TIMEOUT, TimeUnit.MILLISECONDS)) {
+				logger.warn("The devices collection cycle did not complete on destroy");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Sends a control command to the specified device for a controllable property.
+	 *
+	 * @param deviceId The ID of the device to control.
+	 * @param value The value to set for the controllable property.
+	 * @param property The controllable property to control.
+	 */
+	private void sendCommandToControlDevice(String deviceId, String value, AggregatedControllableProperty property) {
+		try {
+			String command = String.format(DanteDirectorQuery.CONTROL_CLOCK_SYNC, property.getCommandParam(), property.getCommandName(), deviceId, value);
+			JsonNode response = this.doPost(DanteDirectorConstant.URL, command, JsonNode.class);
+			if (response.has(DanteDirectorConstant.ERRORS)) {
+				adapterMetrics.recordErrorResponse();
+				throw new IllegalArgumentException("The command response is error");
+			}
+			adapterMetrics.recordControls(1, true);
+		} catch (Exception e) {
+			adapterMetrics.recordControls(1, false);
+			throw new IllegalArgumentException(
+					String.format("Can't control %s with value is %s. %s", property.getName(), DanteDirectorConstant.TRUE.equals(value) ? DanteDirectorConstant.ON : DanteDirectorConstant.OFF, e.getMessage()));
+		}
+	}
+
+	/**
+	 * Sends a command to enroll the specified devices into the site with the specified domain ID.
+	 *
+	 * @param deviceIds The IDs of the devices.
+	 * @param domainId The ID of the domain.
+	 * @param siteName The new site name to set.
+	 * @throws IllegalArgumentException If the command response indicates an error, or if an error occurs during the execution of the command.
+	 */
+	private void sendCommandToControlTheSiteName(List<String> deviceIds, String domainId, String siteName) {
+		try {
+			String command = String.format(DanteDirectorQuery.CONTROL_SITE, objectMapper.writeValueAsString(deviceIds), domainId);
+			JsonNode response = this.doPost(DanteDirectorConstant.URL, command, JsonNode.class);
+			if (response.has(DanteDirectorConstant.ERRORS)) {
+				adapterMetrics.recordErrorResponse();
+				throw new IllegalArgumentException("The command response is error");
+			}
+			adapterMetrics.recordControls(deviceIds.size(), true);
+		} catch (Exception e) {
+			adapterMetrics.recordControls(deviceIds.size(), false);
+			throw new IllegalArgumentException(String.format("Can't control SiteName with value is %s. %s", siteName, e.getMessage()));
+		}
+	}
+
+	/**
+	 * Retrieves system information by making a POST request to Dante Director and updating the domain list.
+	 * Throws exceptions in case of errors during the process, such as failed login, resource not reachable, or missing data.
+	 *
+	 * @throws FailedLoginException If there is an error during login. Please check the credentials.
+	 * @throws ResourceNotReachableException If there is an error retrieving system information or the number of sites is 0.
+	 */
+	private void retrieveSystemInfo() throws Exception {
+		long cacheTime = combinedCollection ? Math.max(systemInfoCacheTime, 2 * effectiveCollectionInterval) : systemInfoCacheTime;
+		if (systemInfoResponse != null && System.currentTimeMillis() - systemInfoTimestamp < cacheTime) {
+			return;
+		}
+		long requestTimestamp = System.currentTimeMillis();
+		JsonNode response = postQuery(DanteDirectorQuery.SYSTEM_INFO);
+
+		if (response.has(DanteDirectorConstant.ERRORS) && checkUnauthenticated(response.get(DanteDirectorConstant.ERRORS))) {
+			throw new FailedLoginException("Error while login. Please check the credentials");
+		}
+
+		if (!response.has(DanteDirectorConstant.DATA) || !response.get(DanteDirectorConstant.DATA).has(DanteDirectorConstant.DOMAINS)) {
+			throw new ResourceNotReachableException("Error when retrieve system information.");
+		}
+
+		if (response.get(DanteDirectorConstant.DATA).get(DanteDirectorConstant.DOMAINS).size() == 0) {
+			throw new ResourceNotReachableException("The Account is empty");
+		} else {
+			updateDomainList(response.get(DanteDirectorConstant.DATA).get(DanteDirectorConstant.DOMAINS));
+			systemInfoResponse = response;
+			systemInfoTimestamp = requestTimestamp;
+		}
+	}
+
+	/**
+	 * Replaces the content of {@link #domainList} with the given domains.
+	 *
+	 * @param domains the domains json array
+	 */
+	private void updateDomainList(Iterable<JsonNode> domains) {
+		synchronized (domainList) {
+			domainList.clear();
+			for (JsonNode item : domains) {
+				domainList.add(item);
+			}
+		}
+	}
+
+	/**
+	 * Posts a GraphQL query, sharing a single in-flight request between the callers that post the same query concurrently.
+	 * Must not be used for mutations. A response reporting GraphQL errors is recorded once as a failed request, whatever the number of callers.
+	 *
+	 * @param query the GraphQL request body
+	 * @return the response, shared between the callers and therefore not to be modified
+	 * @throws Exception if the request fails
+	 */
+	private JsonNode postQuery(String query) throws Exception {
+		CompletableFuture<JsonNode> request = new CompletableFuture<>();
+		CompletableFuture<JsonNode> inFlightRequest = inFlightQueries.putIfAbsent(query, request);
+		if (inFlightRequest != null) {
+			try {
+				return inFlightRequest.get();
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof Exception) {
+					throw (Exception) e.getCause();
+				}
+				throw e;
+			}
+		}
+		try {
+			JsonNode response = this.doPost(DanteDirectorConstant.URL, query, JsonNode.class);
+			if (response != null && response.has(DanteDirectorConstant.ERRORS)) {
+				adapterMetrics.recordErrorResponse();
+			}
+			request.complete(response);
+			return response;
+		} catch (Exception e) {
+			request.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlightQueries.remove(query, request);
+		}
+	}
+
+	/**
+	 * Checks if the provided JSON data contains an "UNAUTHENTICATED" code in the "extensions" field.
+	 *
+	 * @param data The JSON data to check for unauthenticated status.
+	 * @return true if "UNAUTHENTICATED" is found; false otherwise.
+	 */
+	private boolean checkUnauthenticated(JsonNode data) {
+		if (data.isArray()) {
+			for (JsonNode item : data) {
+				if ("UNAUTHENTICATED".equals(item.get(DanteDirectorConstant.EXTENSIONS).get(DanteDirectorConstant.CODE).asText())) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Populates system information into the provided stats map and advanced controllable properties list.
+	 * System information includes properties from the {@link SystemInformation} enumeration.
+	 *
+	 * @param stats The map to store system information properties.
+	 * @param advancedControllableProperties The list to store advanced controllable properties.
+	 */
+	private void populateSystemInfo(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
+		List<String> siteNameList = domainList.stream().map(node -> node.get(DanteDirectorConstant.NAME).asText()).collect(Collectors.toList());
+		if (currentSiteValue == null) {
+			currentSiteValue = domainList.get(0);
+		} else {
+			Optional<JsonNode> matchingDomain = domainList.stream().filter(item -> item.get(DanteDirectorConstant.NAME).asText().equals(currentSiteValue.get(DanteDirectorConstant.NAME).asText())).findFirst();
+			currentSiteValue = matchingDomain.orElse(currentSiteValue);
+		}
+		for (SystemInformation item : SystemInformation.values()) {
+			String propertyName = item.getName();
+			String value = getDefaultValueForNullData(currentSiteValue.get(DanteDirectorConstant.STATUS).get(item.getValue()).asText());
+			JsonNode message = currentSiteValue.get(DanteDirectorConstant.STATUS).get("domainAlertMessage").get(item.getValue());
+			if (message != null && message.has(DanteDirectorConstant.MESSAGE)) {
+				stats.put(propertyName + "Message", message.get(DanteDirectorConstant.MESSAGE).asText());
+			}
+			stats.put(propertyName, value);
+		}
+		//Name
+		String name = currentSiteValue.get(DanteDirectorConstant.NAME).asText();
+		if (domainList.size() > 1) {
+			addAdvancedControlProperties(advancedControllableProperties, stats, createDropdown(DanteDirectorConstant.SITE_NAME, siteNameList.toArray(new String[0]), name), name);
+		} else {
+			advancedControllableProperties.removeIf(item -> item.getName().equalsIgnoreCase(DanteDirectorConstant.SITE_NAME));
+			stats.put(DanteDirectorConstant.SITE_NAME + DanteDirectorConstant.SPACE, name);
+		}
+		//Number of devices
+		stats.put("NumberOfDevices", String.valueOf(currentSiteValue.get(DanteDirectorConstant.DEVICES).size()));
+	}
+
+	/**
+	 * Populates device details by making a POST request to retrieve information from Dante Director.
+	 * The method clears the existing aggregated device list, processes the response, and updates the list accordingly.
+	 * Any error during the process is logged.
+	 */
+	private void populateDeviceDetails() {
+		lastCycleChangedDevices = 0;
+		if (domainCollectionParallelism > 0 && !combinedCollection) {
+			populateDeviceDetailsByDomain();
+		} else if (streamingIngest) {
+			streamAccountDeviceDetails();
+		} else {
+			populateAccountDeviceDetails();
+		}
+		cloneAndPopulateAggregatedDeviceList();
+	}
+
+	/**
+	 * Populates device details of every domain with a single {@link DanteDirectorQuery#DEVICES_INFO} request.
+	 * When {@link #combinedCollection} is enabled, the {@link DanteDirectorQuery#DOMAINS_DEVICES_INFO} request also refreshes
+	 * {@link #domainList}, which {@link #getMultipleStatistics()} then serves without a request of its own.
+	 */
+	private void populateAccountDeviceDetails() {
+		try {
+			boolean combined = combinedCollection;
+			long startTime = System.currentTimeMillis();
+			JsonNode response = postQuery(combined ? DanteDirectorQuery.DOMAINS_DEVICES_INFO : DanteDirectorQuery.DEVICES_INFO);
+			lastCycleResponseTime = System.currentTimeMillis() - startTime;
+			if (combined) {
+				populateCombinedDomains(response, startTime);
+			}
+			if (response.has(DanteDirectorConstant.DATA) && response.get(DanteDirectorConstant.DATA).has(DanteDirectorConstant.DOMAINS)) {
+				Set<String> collectedDeviceIds = new HashSet<>();
+				int changedDevices = 0;
+				for (JsonNode domainNode : response.get(DanteDirectorConstant.DATA).get(DanteDirectorConstant.DOMAINS)) {
+					String domainId = domainNode.get(DanteDirectorConstant.ID).asText();
+					if (checkExistDomainId(domainId)) {
+						changedDevices += populateDomainDevices(domainId, domainNode.get(DanteDirectorConstant.DEVICES), collectedDeviceIds, startTime);
+					}
+				}
+				removeStaleDevices(collectedDeviceIds);
+				lastCycleChangedDevices = changedDevices;
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Devices collection cycle mapped %s changed devices out of %s", changedDevices, collectedDeviceIds.size()));
+				}
+			}
+		} catch (Exception e) {
+			logger.error("Error while populate aggregated device", e);
+		}
+	}
+
+	/**
+	 * Refreshes {@link #domainList} out of a {@link DanteDirectorQuery#DOMAINS_DEVICES_INFO} response, keeping only the device ids
+	 * of every domain as {@link DanteDirectorQuery#SYSTEM_INFO} does.
+	 *
+	 * @param response the combined response
+	 * @param requestTime the time the combined query was sent, in milliseconds
+	 */
+	private void populateCombinedDomains(JsonNode response, long requestTime) {
+		JsonNode data = response.get(DanteDirectorConstant.DATA);
+		if (response.has(DanteDirectorConstant.ERRORS) || data == null || !data.has(DanteDirectorConstant.DOMAINS) || data.get(DanteDirectorConstant.DOMAINS).size() == 0) {
+			return;
+		}
+		List<JsonNode> domains = new ArrayList<>();
+		for (JsonNode domainNode : data.get(DanteDirectorConstant.DOMAINS)) {
+			ObjectNode domain = objectMapper.createObjectNode();
+			domain.setAll((ObjectNode) domainNode);
+			ArrayNode deviceIds = domain.putArray(DanteDirectorConstant.DEVICES);
+			JsonNode devices = domainNode.get(DanteDirectorConstant.DEVICES);
+			if (devices != null) {
+				for (JsonNode device : devices) {
+					deviceIds.addObject().set(DanteDirectorConstant.ID, device.get(DanteDirectorConstant.ID));
+				}
+			}
+			domains.add(domain);
+		}
+		updateDomainList(domains);
+		systemInfoResponse = response;
+		systemInfoTimestamp = requestTime;
+	}
+
+	/**
+	 * Populates device details of every domain as {@link #populateAccountDeviceDetails()} does, but parses the response
+	 * as a stream: every device is mapped as soon as its json is read, so only a single device json is held at a time
+	 * whatever the size of the fleet. When {@link #combinedCollection} is enabled, the domains are kept with their device ids only.
+	 */
+	private void streamAccountDeviceDetails() {
+		try {
+			boolean combined = combinedCollection;
+			long startTime = System.currentTimeMillis();
+			byte[] body = (combined ? DanteDirectorQuery.DOMAINS_DEVICES_INFO : DanteDirectorQuery.DEVICES_INFO).getBytes(StandardCharsets.UTF_8);
+			List<JsonNode> domains = new ArrayList<>();
+			Set<String> collectedDeviceIds = new HashSet<>();
+			Integer changedDevices = obtainRestTemplate().execute(buildRequestUri(DanteDirectorConstant.URL), HttpMethod.POST,
+					request -> {
+						putExtraRequestHeaders(HttpMethod.POST, DanteDirectorConstant.URL, request.getHeaders());
+						request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+						request.getBody().write(body);
+					},
+					response -> {
+						lastCycleResponseTime = System.currentTimeMillis() - startTime;
+						try (JsonParser parser = objectMapper.getFactory().createParser(response.getBody())) {
+							return ingestDevicesResponse(parser, combined, startTime, domains, collectedDeviceIds);
+						}
+					});
+			if (changedDevices == null) {
+				return;
+			}
+			if (combined && !domains.isEmpty()) {
+				updateDomainList(domains);
+				ObjectNode response = objectMapper.createObjectNode();
+				response.putObject(DanteDirectorConstant.DATA).putArray(DanteDirectorConstant.DOMAINS).addAll(domains);
+				systemInfoResponse = response;
+				systemInfoTimestamp = startTime;
+			}
+			removeStaleDevices(collectedDeviceIds);
+			lastCycleChangedDevices = changedDevices;
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Devices collection cycle streamed %s changed devices out of %s", changedDevices, collectedDeviceIds.size()));
+			}
+		} catch (Exception e) {
+			logger.error("Error while populate aggregated device", e);
+		}
+	}
+
+	/**
+	 * Reads a {@link DanteDirectorQuery#DEVICES_INFO} or {@link DanteDirectorQuery#DOMAINS_DEVICES_INFO} response from the parser,
+	 * merging the devices into {@link #cachedData} one at a time.
+	 *
+	 * @param parser the parser positioned before the response
+	 * @param combined whether the response is a combined one, whose domains are all collected
+	 * @param requestTime the time the devices were requested, in milliseconds
+	 * @param domains list to record the domains into, with the ids of their devices only
+	 * @param collectedDeviceIds set to record the ids of the reported devices into
+	 * @return number of devices that were mapped because they are new or changed, null if the response has no domains
+	 * @throws IOException if the response cannot be read
+	 */
+	private Integer ingestDevicesResponse(JsonParser parser, boolean combined, long requestTime, List<JsonNode> domains, Set<String> collectedDeviceIds) throws IOException {
+		if (parser.nextToken() != JsonToken.START_OBJECT) {
+			return null;
+		}
+		Integer changedDevices = null;
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.getCurrentName();
+			if (DanteDirectorConstant.ERRORS.equals(field)) {
+				adapterMetrics.recordErrorResponse();
+			}
+			if (parser.nextToken() != JsonToken.START_OBJECT || !DanteDirectorConstant.DATA.equals(field)) {
+				parser.skipChildren();
+				continue;
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String dataField = parser.getCurrentName();
+				if (parser.nextToken() != JsonToken.START_ARRAY || !DanteDirectorConstant.DOMAINS.equals(dataField)) {
+					parser.skipChildren();
+					continue;
+				}
+				changedDevices = 0;
+				for (JsonToken token = parser.nextToken(); token != null && token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+					if (token != JsonToken.START_OBJECT) {
+						parser.skipChildren();
+						continue;
+					}
+					ObjectNode domain = objectMapper.createObjectNode();
+					changedDevices += ingestDomain(parser, domain, combined, requestTime, collectedDeviceIds);
+					domains.add(domain);
+				}
+			}
+		}
+		return changedDevices;
+	}
+
+	/**
+	 * Reads a single domain from the parser, merging its devices into {@link #cachedData} one at a time.
+	 * Devices reported before the id of their domain are buffered until the domain id is read.
+	 *
+	 * @param parser the parser positioned on the start of the domain object
+	 * @param domain the node to record the domain fields into, with the ids of its devices only
+	 * @param combined whether the response is a combined one, whose domains are all collected
+	 * @param requestTime the time the devices were requested, in milliseconds
+	 * @param collectedDeviceIds set to record the ids of the reported devices into
+	 * @return number of devices that were mapped because they are new or changed
+	 * @throws IOException if the response cannot be read
+	 */
+	private int ingestDomain(JsonParser parser, ObjectNode domain, boolean combined, long requestTime, Set<String> collectedDeviceIds) throws IOException {
+		int changedDevices = 0;
+		String domainId = null;
+		JsonNode bufferedDevices = null;
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.getCurrentName();
+			JsonToken value = parser.nextToken();
+			if (!DanteDirectorConstant.DEVICES.equals(field) || value != JsonToken.START_ARRAY) {
+				JsonNode node = parser.readValueAsTree();
+				domain.set(field, node);
+				if (DanteDirectorConstant.ID.equals(field) && node != null) {
+					domainId = node.asText();
+				}
+				continue;
+			}
+			ArrayNode deviceIds = domain.putArray(DanteDirectorConstant.DEVICES);
+			if (domainId == null) {
+				bufferedDevices = parser.readValueAsTree();
+				continue;
+			}
+			if (!combined && !checkExistDomainId(domainId)) {
+				parser.skipChildren();
+				continue;
+			}
+			for (JsonToken token = parser.nextToken(); token != null && token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+				if (token != JsonToken.START_OBJECT) {
+					parser.skipChildren();
+					continue;
+				}
+				JsonNode device = parser.readValueAsTree();
+				if (device.has(DanteDirectorConstant.ID)) {
+					deviceIds.addObject().set(DanteDirectorConstant.ID, device.get(DanteDirectorConstant.ID));
+					collectedDeviceIds.add(device.get(DanteDirectorConstant.ID).asText());
+					if (mergeDevice(domainId, device, requestTime)) {
+						changedDevices++;
+					}
+				}
+			}
+		}
+		if (bufferedDevices != null && domainId != null && (combined || checkExistDomainId(domainId))) {
+			ArrayNode deviceIds = (ArrayNode) domain.get(DanteDirectorConstant.DEVICES);
+			for (JsonNode device : bufferedDevices) {
+				deviceIds.addObject().set(DanteDirectorConstant.ID, device.get(DanteDirectorConstant.ID));
+			}
+			changedDevices += populateDomainDevices(domainId, bufferedDevices, collectedDeviceIds, requestTime);
+		}
+		return changedDevices;
+	}
+
+	/**
+	 * Builds the absolute uri of a request to Dante Director, as the {@link RestCommunicator} requests do.
+	 *
+	 * @param path the path of the request
+	 * @return the absolute uri
+	 */
+	private String buildRequestUri(String path) {
+		String host = getHost().contains(":") ? "[" + getHost() + "]" : getHost();
+		StringBuilder uri = new StringBuilder(getProtocol()).append("://").append(host).append(':').append(getPort());
+		if (StringUtils.isNotNullOrEmpty(getBaseUri())) {
+			uri.append(getBaseUri().startsWith("/") ? "" : "/").append(getBaseUri());
+		}
+		return uri.append('/').append(path).toString();
+	}
+
+	/**
+	 * Populates the device statuses with a single {@link DanteDirectorQuery#DEVICES_STATUS} request.
+	 * The status fields are merged into the retained raw json of the cached devices, which are mapped again only when
+	 * the merged json changed. Devices that are not cached yet, or moved to another domain, wait for the next full cycle.
+	 */
+	private void populateDeviceStatus() {
+		try {
+			long startTime = System.currentTimeMillis();
+			JsonNode response = postQuery(DanteDirectorQuery.DEVICES_STATUS);
+			if (!response.has(DanteDirectorConstant.DATA) || !response.get(DanteDirectorConstant.DATA).has(DanteDirectorConstant.DOMAINS)) {
+				return;
+			}
+			int changedDevices = 0;
+			for (JsonNode domainNode : response.get(DanteDirectorConstant.DATA).get(DanteDirectorConstant.DOMAINS)) {
+				String domainId = domainNode.get(DanteDirectorConstant.ID).asText();
+				JsonNode devices = domainNode.get(DanteDirectorConstant.DEVICES);
+				if (devices == null || !checkExistDomainId(domainId)) {
+					continue;
+				}
+				for (JsonNode statusNode : devices) {
+					DeviceCacheEntry entry = cachedData.get(statusNode.get(DanteDirectorConstant.ID).asText());
+					if (entry == null || !(entry.getRawDevice() instanceof ObjectNode) || !domainId.equals(entry.getDomainId())) {
+						continue;
+					}
+					ObjectNode mergedNode = objectMapper.createObjectNode();
+					mergedNode.setAll((ObjectNode) entry.getRawDevice());
+					mergedNode.setAll((ObjectNode) statusNode);
+					if (mergeDevice(domainId, mergedNode, startTime)) {
+						changedDevices++;
 					}
-				} else {
-					throw new IllegalArgumentException(String.format("Unable to control property: %s as the device does not exist.", property));
 				}
 			}
-		} finally {
-			reentrantLock.unlock();
+			if (changedDevices > 0) {
+				cloneAndPopulateAggregatedDeviceList();
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Device status collection cycle mapped %s changed devices", changedDevices));
+			}
+		} catch (Exception e) {
+			logger.error("Error while populate device status", e);
 		}
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Populates device details with one {@link DanteDirectorQuery#DOMAIN_DEVICES_INFO} request per known domain.
+	 * Requests are executed in parallel on {@link #domainExecutorService}, while the responses are mapped and merged into
+	 * the cache on the loader thread in the order the domains complete.
+	 * Devices that are no longer reported are removed only when every domain was retrieved successfully.
 	 */
-	@Override
-	public void controlProperties(List<ControllableProperty> controllableProperties) throws Exception {
-		if (CollectionUtils.isEmpty(controllableProperties)) {
-			throw new IllegalArgumentException("ControllableProperties can not be null or empty");
+	private void populateDeviceDetailsByDomain() {
+		List<String> domainIds = new ArrayList<>();
+		if (domainList != null) {
+			synchronized (domainList) {
+				for (JsonNode item : domainList) {
+					if (item.has(DanteDirectorConstant.ID)) {
+						domainIds.add(item.get(DanteDirectorConstant.ID).asText());
+					}
+				}
+			}
 		}
-		for (ControllableProperty p : controllableProperties) {
+		if (domainIds.isEmpty()) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Domain list is not retrieved yet, skipping domain scoped devices collection");
+			}
+			return;
+		}
+		if (domainExecutorService == null) {
+			domainExecutorService = Executors.newFixedThreadPool(domainCollectionParallelism);
+		}
+		CompletionService<JsonNode> completionService = new ExecutorCompletionService<>(domainExecutorService);
+		long cycleStartTime = System.currentTimeMillis();
+		LongAccumulator responseTime = new LongAccumulator(Math::max, 0);
+		for (String domainId : domainIds) {
+			completionService.submit(() -> {
+				long startTime = System.currentTimeMillis();
+				JsonNode response = postQuery(String.format(DanteDirectorQuery.DOMAIN_DEVICES_INFO, domainId));
+				responseTime.accumulate(System.currentTimeMillis() - startTime);
+				return response;
+			});
+		}
+
+		Set<String> collectedDeviceIds = new HashSet<>();
+		int changedDevices = 0;
+		boolean completed = true;
+		for (int i = 0; i < domainIds.size(); i++) {
 			try {
-				controlProperty(p);
+				JsonNode response = completionService.take().get();
+				JsonNode data = response.get(DanteDirectorConstant.DATA);
+				if (data == null || !data.hasNonNull(DanteDirectorConstant.DOMAIN)) {
+					completed = false;
+					logger.error("Error while populate aggregated device: domain response has no data");
+					continue;
+				}
+				JsonNode domainNode = data.get(DanteDirectorConstant.DOMAIN);
+				changedDevices += populateDomainDevices(domainNode.get(DanteDirectorConstant.ID).asText(), domainNode.get(DanteDirectorConstant.DEVICES), collectedDeviceIds, cycleStartTime);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (ExecutionException e) {
+				completed = false;
+				logger.error("Error while populate aggregated device of a domain", e.getCause());
 			} catch (Exception e) {
-				logger.error(String.format("Error when control property %s", p.getProperty()), e);
+				completed = false;
+				logger.error("Error while populate aggregated device", e);
 			}
 		}
+		if (completed) {
+			removeStaleDevices(collectedDeviceIds);
+		}
+		lastCycleChangedDevices = changedDevices;
+		lastCycleResponseTime = responseTime.get();
+		if (logger.isDebugEnabled()) {
+			logger.debug(String.format("Domain scoped devices collection cycle mapped %s changed devices out of %s", changedDevices, collectedDeviceIds.size()));
+		}
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Maps the devices of a single domain and merges them into {@link #cachedData}.
+	 *
+	 * @param domainId the id of the domain
+	 * @param devices the devices json array of the domain
+	 * @param collectedDeviceIds set to record the ids of the reported devices into
+	 * @param requestTime the time the devices were requested, in milliseconds
+	 * @return number of devices that were mapped because they are new or changed
 	 */
-	@Override
-	public List<AggregatedDevice> retrieveMultipleStatistics() throws Exception {
-		if (executorService == null) {
-			executorService = Executors.newFixedThreadPool(1);
-			executorService.submit(deviceDataLoader = new DanteDirectorDataLoader());
+	private int populateDomainDevices(String domainId, JsonNode devices, Set<String> collectedDeviceIds, long requestTime) {
+		if (devices == null) {
+			return 0;
 		}
-		nextDevicesCollectionIterationTimestamp = System.currentTimeMillis();
-		updateValidRetrieveStatisticsTimestamp();
-		if (cachedData.isEmpty()) {
-			return Collections.emptyList();
+		int changedDevices = 0;
+		for (JsonNode jsonNode : devices) {
+			collectedDeviceIds.add(jsonNode.get(DanteDirectorConstant.ID).asText());
+			if (mergeDevice(domainId, jsonNode, requestTime)) {
+				changedDevices++;
+			}
 		}
-		return cloneAndPopulateAggregatedDeviceList();
+		return changedDevices;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Merges a single device into {@link #cachedData}.
+	 * The device is mapped again only when the fingerprint of its raw json differs from the cached one, and is ignored
+	 * when it was requested before the last control of the device, so it cannot revert the controlled values.
+	 *
+	 * @param domainId the id of the domain the device is enrolled in
+	 * @param jsonNode the raw device json
+	 * @param requestTime the time the device was requested, in milliseconds
+	 * @return true if the device was mapped because it is new or changed; false otherwise
 	 */
-	@Override
-	public List<AggregatedDevice> retrieveMultipleStatistics(List<String> list) throws Exception {
-		return retrieveMultipleStatistics().stream().filter(aggregatedDevice -> list.contains(aggregatedDevice.getDeviceId())).collect(Collectors.toList());
+	private boolean mergeDevice(String domainId, JsonNode jsonNode, long requestTime) {
+		String id = jsonNode.get(DanteDirectorConstant.ID).asText();
+		adapterMetrics.recordDeviceReceived();
+		if (isControlledAfter(id, requestTime)) {
+			return false;
+		}
+		long now = System.currentTimeMillis();
+		Long fingerprint = DeviceFingerprint.of(objectMapper, jsonNode);
+		DeviceCacheEntry cachedEntry = cachedData.get(id);
+		if (cachedEntry != null && fingerprint != null && fingerprint.equals(cachedEntry.getFingerprint()) && domainId.equals(cachedEntry.getDomainId())) {
+			cachedEntry.setLastUpdated(now);
+			if (cachedEntry.getRestoredSnapshotTime() > 0) {
+				// confirmed unchanged since the warm-start snapshot: counted in the gauges and rendered without the stale marker
+				cachedEntry.setRestoredSnapshotTime(0);
+				fleetGauges.updateDevice(id, jsonNode);
+				synchronized (cachedData) {
+					cachedEntry.setRenderedDevice(null);
+				}
+			}
+			return false;
+		}
+		long mappingStartTime = System.nanoTime();
+		List<AggregatedDevice> mappedDevices = compiledMapping && compiledDeviceMapping != null ? compiledDeviceMapping.extractDevice(jsonNode)
+				: aggregatedDeviceProcessor.extractDevices(objectMapper.createArrayNode().add(jsonNode));
+		ChannelDTO[] receiveChannels = parseReceiveChannels(jsonNode.get(DanteDirectorConstant.RX_CHANNELS));
+		adapterMetrics.recordDeviceMapped(System.nanoTime() - mappingStartTime);
+		for (AggregatedDevice aggregatedDevice : mappedDevices) {
+			DeviceCacheEntry entry = new DeviceCacheEntry(aggregatedDevice, domainId, receiveChannels, statusCollectionInterval > 0 ? jsonNode : null, fingerprint, now);
+			DeviceCacheEntry previousEntry;
+			// checked again under the cache lock, as a control may have updated the cache while the device was mapped
+			synchronized (cachedData) {
+				if (isControlledAfter(id, requestTime)) {
+					return false;
+				}
+				controlTimestamps.remove(id);
+				previousEntry = cachedData.put(id, entry);
+				fleetGauges.updateDevice(id, jsonNode);
+				snapshotDirty.set(true);
+				if (!pendingControls.isEmpty() && applyPendingControls(id, aggregatedDevice.getProperties())) {
+					// the reported values have to replace the pending ones once they are sent, even if the device json is unchanged
+					entry.setFingerprint(null);
+				}
+			}
+			if (previousEntry != null) {
+				adapterMetrics.recordDeviceChanged();
+				if (hasStatusChanged(previousEntry.getDevice(), aggregatedDevice)) {
+					cycleStatusChanges.incrementAndGet();
+				}
+			}
+			updateSubscriptionGraph(entry);
+		}
+		return true;
 	}
 
 	/**
-	 * {@inheritDoc}
-	 * set API Key into Header of Request
+	 * Checks whether the cache of a device was updated by a control at or after the given time.
+	 *
+	 * @param deviceId the id of the device
+	 * @param requestTime the time the device was requested, in milliseconds
+	 * @return true if a device json requested at that time would revert a controlled value; false otherwise
 	 */
-	@Override
-	protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) {
-		headers.set("Authorization", this.getPassword());
-		return headers;
+	private boolean isControlledAfter(String deviceId, long requestTime) {
+		Long controlTime = controlTimestamps.get(deviceId);
+		return controlTime != null && controlTime >= requestTime;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Checks whether the online, Clocking or Connectivity status of a device changed.
+	 *
+	 * @param previousDevice the previously mapped device
+	 * @param device the newly mapped device
+	 * @return true if any of the statuses changed; false otherwise
 	 */
-	@Override
-	protected void authenticate() throws Exception {
-
+	private boolean hasStatusChanged(AggregatedDevice previousDevice, AggregatedDevice device) {
+		return !Objects.equals(previousDevice.getDeviceOnline(), device.getDeviceOnline())
+				|| !Objects.equals(previousDevice.getProperties().get(AggregatedInformation.CLOCKING.getName()), device.getProperties().get(AggregatedInformation.CLOCKING.getName()))
+				|| !Objects.equals(previousDevice.getProperties().get(AggregatedInformation.CONNECTIVITY.getName()), device.getProperties().get(AggregatedInformation.CONNECTIVITY.getName()));
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Updates {@link #subscriptionGraph} with a new or changed device, and marks every device whose subscription statistics
+	 * changed to be rendered again.
+	 *
+	 * @param entry the cache entry of the device
 	 */
-	@Override
-	protected void internalInit() throws Exception {
-		if (logger.isDebugEnabled()) {
-			logger.debug("Internal init is called.");
-		}
-		executorService = Executors.newFixedThreadPool(1);
-		executorService.submit(deviceDataLoader = new DanteDirectorDataLoader());
-		super.internalInit();
+	private void updateSubscriptionGraph(DeviceCacheEntry entry) {
+		AggregatedDevice device = entry.getDevice();
+		invalidateRenderedDevices(subscriptionGraph.updateDevice(device.getDeviceId(), entry.getDomainId(), device.getDeviceName(), entry.getReceiveChannels()));
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Marks the given devices to be rendered again on the next snapshot.
+	 * Holds the cache lock, so a snapshot being rendered from the previous subscriptions cannot publish its copies afterwards.
+	 *
+	 * @param deviceIds ids of the devices
 	 */
-	@Override
-	protected void internalDestroy() {
-		if (logger.isDebugEnabled()) {
-			logger.debug("Internal destroy is called.");
+	private void invalidateRenderedDevices(Set<String> deviceIds) {
+		if (deviceIds.isEmpty()) {
+			return;
 		}
-		if (deviceDataLoader != null) {
-			deviceDataLoader.stop();
-			deviceDataLoader = null;
+		synchronized (cachedData) {
+			for (String deviceId : deviceIds) {
+				DeviceCacheEntry entry = cachedData.get(deviceId);
+				if (entry != null) {
+					entry.setRenderedDevice(null);
+				}
+			}
 		}
-		if (executorService != null) {
-			executorService.shutdownNow();
-			executorService = null;
+	}
+
+	/**
+	 * Parses the rxChannels json array of a device into channels, once per device change.
+	 *
+	 * @param rxChannels the rxChannels json array, may be null
+	 * @return array of receive channels, empty when the device has none
+	 */
+	private ChannelDTO[] parseReceiveChannels(JsonNode rxChannels) {
+		if (rxChannels == null || !rxChannels.isArray() || rxChannels.size() == 0) {
+			return EMPTY_CHANNELS;
 		}
-		if (localExtendedStatistics != null && localExtendedStatistics.getStatistics() != null && localExtendedStatistics.getControllableProperties() != null) {
-			localExtendedStatistics.getStatistics().clear();
-			localExtendedStatistics.getControllableProperties().clear();
+		ChannelDTO[] channels = new ChannelDTO[rxChannels.size()];
+		int index = 0;
+		for (JsonNode channel : rxChannels) {
+			channels[index++] = new ChannelDTO(getTextValue(channel, DanteDirectorConstant.NAME), getTextValue(channel, DanteDirectorConstant.MEDIA_TYPE),
+					getTextValue(channel, DanteDirectorConstant.SUBSCRIBED_CHANNEL), getTextValue(channel, DanteDirectorConstant.SUBSCRIBED_DEVICE));
 		}
-		domainList = null;
-		currentSiteValue = null;
-		nextDevicesCollectionIterationTimestamp = 0;
-		aggregatedDeviceList.clear();
-		cachedData.clear();
-		super.internalDestroy();
+		return channels;
 	}
 
 	/**
-	 * Sends a control command to the specified device for a controllable property.
+	 * Retrieves the text value of a field of a json node.
 	 *
-	 * @param deviceId The ID of the device to control.
-	 * @param value The value to set for the controllable property.
-	 * @param property The controllable property to control.
+	 * @param node the json node
+	 * @param fieldName the name of the field
+	 * @return text value of the field, or null if the field is missing or null
 	 */
-	private void sendCommandToControlDevice(String deviceId, String value, AggregatedControllableProperty property) {
-		try {
-			String command = String.format(DanteDirectorQuery.CONTROL_CLOCK_SYNC, property.getCommandParam(), property.getCommandName(), deviceId, value);
-			JsonNode response = this.doPost(DanteDirectorConstant.URL, command, JsonNode.class);
-			if (response.has(DanteDirectorConstant.ERRORS)) {
-				throw new IllegalArgumentException("The command response is error");
-			}
+	private String getTextValue(JsonNode node, String fieldName) {
+		JsonNode value = node.get(fieldName);
+		return value == null || value.isNull() ? null : value.asText();
+	}
 
-		} catch (Exception e) {
-			throw new IllegalArgumentException(
-					String.format("Can't control %s with value is %s. %s", property.getName(), DanteDirectorConstant.TRUE.equals(value) ? DanteDirectorConstant.ON : DanteDirectorConstant.OFF, e.getMessage()));
+	/**
+	 * Retrieves again, with a single {@link DanteDirectorQuery#DEVICES_BY_ID} request, the requested devices
+	 * whose cached copy is older than {@link #deviceFreshnessThreshold}, and publishes the refreshed snapshot.
+	 * Any error is logged and the cached devices are kept.
+	 *
+	 * @param deviceIds ids of the requested devices
+	 */
+	private void refreshOutdatedDevices(Collection<String> deviceIds) {
+		long threshold = System.currentTimeMillis() - deviceFreshnessThreshold;
+		Map<String, String> outdatedDevices = new LinkedHashMap<>();
+		for (String deviceId : deviceIds) {
+			DeviceCacheEntry entry = cachedData.get(deviceId);
+			if (entry != null && entry.getLastUpdated() < threshold) {
+				outdatedDevices.put(deviceId, entry.getDomainId());
+			}
+		}
+		if (!outdatedDevices.isEmpty()) {
+			refreshDevices(outdatedDevices);
 		}
 	}
 
 	/**
-	 * Sends a command to control the site name associated with the specified device ID and domain ID.
+	 * Retrieves the given devices with a single {@link DanteDirectorQuery#DEVICES_BY_ID} request, merges them into the cache
+	 * and publishes the refreshed snapshot. Any error is logged and the cached devices are kept.
 	 *
-	 * @param deviceId The ID of the device.
-	 * @param domainId The ID of the domain.
-	 * @param siteName The new site name to set.
-	 * @throws IllegalArgumentException If the command response indicates an error, or if an error occurs during the execution of the command.
+	 * @param domainIdsByDeviceId ids of the devices, mapped to the id of the domain they are enrolled in
+	 * @return true if every device was retrieved; false otherwise
 	 */
-	private void sendCommandToControlTheSiteName(String deviceId, String domainId, String siteName) {
+	private boolean refreshDevices(Map<String, String> domainIdsByDeviceId) {
 		try {
-			String command = String.format(DanteDirectorQuery.CONTROL_SITE, deviceId, domainId);
-			JsonNode response = this.doPost(DanteDirectorConstant.URL, command, JsonNode.class);
-			if (response.has(DanteDirectorConstant.ERRORS)) {
-				throw new IllegalArgumentException("The command response is error");
+			List<String> deviceIds = new ArrayList<>(domainIdsByDeviceId.keySet());
+			StringBuilder variableDefinitions = new StringBuilder();
+			StringBuilder selections = new StringBuilder();
+			ObjectNode variables = objectMapper.createObjectNode();
+			for (int i = 0; i < deviceIds.size(); i++) {
+				if (i > 0) {
+					variableDefinitions.append(", ");
+				}
+				variableDefinitions.append(String.format(DanteDirectorQuery.DEVICE_BY_ID_VARIABLES, i));
+				selections.append(String.format(DanteDirectorQuery.DEVICE_BY_ID_SELECTION, i));
+				variables.put(DanteDirectorConstant.DOMAIN_ID + i, domainIdsByDeviceId.get(deviceIds.get(i)));
+				variables.put(DanteDirectorConstant.DEVICE_ID + i, deviceIds.get(i));
 			}
+			ObjectNode request = objectMapper.createObjectNode();
+			request.put(DanteDirectorConstant.QUERY, String.format(DanteDirectorQuery.DEVICES_BY_ID, variableDefinitions, selections));
+			request.set(DanteDirectorConstant.VARIABLES, variables);
+
+			long startTime = System.currentTimeMillis();
+			JsonNode response = postQuery(objectMapper.writeValueAsString(request));
+			JsonNode data = response.get(DanteDirectorConstant.DATA);
+			if (data == null || data.isNull()) {
+				logger.error("Error while refreshing devices: response has no data");
+				return false;
+			}
+			boolean refreshed = true;
+			for (int i = 0; i < deviceIds.size(); i++) {
+				JsonNode domainNode = data.get(DanteDirectorConstant.DEVICE + i);
+				if (domainNode != null && domainNode.hasNonNull(DanteDirectorConstant.DEVICE) && cachedData.containsKey(deviceIds.get(i))) {
+					mergeDevice(domainNode.get(DanteDirectorConstant.ID).asText(), domainNode.get(DanteDirectorConstant.DEVICE), startTime);
+				} else {
+					refreshed = false;
+				}
+			}
+			cloneAndPopulateAggregatedDeviceList();
+			return refreshed;
 		} catch (Exception e) {
-			throw new IllegalArgumentException(String.format("Can't control SiteName with value is %s. %s", siteName, e.getMessage()));
+			logger.error("Error while refreshing devices", e);
+			return false;
 		}
 	}
 
 	/**
-	 * Retrieves system information by making a POST request to Dante Director and updating the domain list.
-	 * Throws exceptions in case of errors during the process, such as failed login, resource not reachable, or missing data.
+	 * Removes the devices that were not reported during the last collection cycle.
 	 *
-	 * @throws FailedLoginException If there is an error during login. Please check the credentials.
-	 * @throws ResourceNotReachableException If there is an error retrieving system information or the number of sites is 0.
+	 * @param collectedDeviceIds ids of the devices reported during the last collection cycle
 	 */
-	private void retrieveSystemInfo() throws Exception {
-		JsonNode response = this.doPost(DanteDirectorConstant.URL, DanteDirectorQuery.SYSTEM_INFO, JsonNode.class);
-
-		if (response.has(DanteDirectorConstant.ERRORS) && checkUnauthenticated(response.get(DanteDirectorConstant.ERRORS))) {
-			throw new FailedLoginException("Error while login. Please check the credentials");
+	private void removeStaleDevices(Set<String> collectedDeviceIds) {
+		List<DeviceCacheEntry> staleEntries = new ArrayList<>();
+		synchronized (cachedData) {
+			Iterator<DeviceCacheEntry> iterator = cachedData.values().iterator();
+			while (iterator.hasNext()) {
+				DeviceCacheEntry entry = iterator.next();
+				if (!collectedDeviceIds.contains(entry.getDevice().getDeviceId())) {
+					staleEntries.add(entry);
+					iterator.remove();
+				}
+			}
 		}
-
-		if (!response.has(DanteDirectorConstant.DATA) || !response.get(DanteDirectorConstant.DATA).has(DanteDirectorConstant.DOMAINS)) {
-			throw new ResourceNotReachableException("Error when retrieve system information.");
+		for (DeviceCacheEntry entry : staleEntries) {
+			fleetGauges.removeDevice(entry.getDevice().getDeviceId());
+			invalidateRenderedDevices(subscriptionGraph.removeDevice(entry.getDevice().getDeviceId()));
 		}
-
-		if (response.get(DanteDirectorConstant.DATA).get(DanteDirectorConstant.DOMAINS).size() == 0) {
-			throw new ResourceNotReachableException("The Account is empty");
-		} else {
-			domainList.clear();
-			for (JsonNode item : response.get(DanteDirectorConstant.DATA).get(DanteDirectorConstant.DOMAINS)) {
-				domainList.add(item);
-			}
+		if (!staleEntries.isEmpty()) {
+			snapshotDirty.set(true);
 		}
+		restoredSnapshotTime = 0;
 	}
 
 	/**
-	 * Checks if the provided JSON data contains an "UNAUTHENTICATED" code in the "extensions" field.
-	 *
-	 * @param data The JSON data to check for unauthenticated status.
-	 * @return true if "UNAUTHENTICATED" is found; false otherwise.
+	 * Restores the device cache from {@link #warmStartFile}, when set, and publishes the restored devices right away.
+	 * The restored devices are marked with the time of the snapshot until the collection cycles confirm or replace them.
 	 */
-	private boolean checkUnauthenticated(JsonNode data) {
-		if (data.isArray()) {
-			for (JsonNode item : data) {
-				if ("UNAUTHENTICATED".equals(item.get(DanteDirectorConstant.EXTENSIONS).get(DanteDirectorConstant.CODE).asText())) {
-					return true;
+	private void restoreSnapshot() {
+		if (StringUtils.isNullOrEmpty(warmStartFile)) {
+			return;
+		}
+		try {
+			DeviceSnapshotFile.Snapshot snapshot = createSnapshotFile().read();
+			if (snapshot == null || snapshot.getEntries().isEmpty()) {
+				return;
+			}
+			if (!snapshot.getDomains().isEmpty()) {
+				updateDomainList(snapshot.getDomains());
+			}
+			synchronized (cachedData) {
+				for (DeviceCacheEntry entry : snapshot.getEntries()) {
+					cachedData.put(entry.getDevice().getDeviceId(), entry);
 				}
 			}
+			for (DeviceCacheEntry entry : snapshot.getEntries()) {
+				updateSubscriptionGraph(entry);
+			}
+			restoredSnapshotTime = snapshot.getSnapshotTime();
+			cloneAndPopulateAggregatedDeviceList();
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Restored %s devices from the warm-start snapshot of %s", snapshot.getEntries().size(), formatTimestamp(snapshot.getSnapshotTime())));
+			}
+		} catch (Exception e) {
+			logger.warn(String.format("Unable to restore the warm-start snapshot %s, devices are collected from scratch", warmStartFile), e);
 		}
-		return false;
 	}
 
 	/**
-	 * Populates system information into the provided stats map and advanced controllable properties list.
-	 * System information includes properties from the {@link SystemInformation} enumeration.
-	 *
-	 * @param stats The map to store system information properties.
-	 * @param advancedControllableProperties The list to store advanced controllable properties.
+	 * Writes the device cache to {@link #warmStartFile}, when set and the devices changed since the last write.
+	 * The cache is encoded under its lock, and compressed and written to the file outside of it. Writes are serialized by
+	 * {@link #snapshotWriteLock}, so concurrent writes neither share the temporary file nor land out of order.
 	 */
-	private void populateSystemInfo(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
-		List<String> siteNameList = domainList.stream().map(node -> node.get(DanteDirectorConstant.NAME).asText()).collect(Collectors.toList());
-		if (currentSiteValue == null) {
-			currentSiteValue = domainList.get(0);
-		} else {
-			Optional<JsonNode> matchingDomain = domainList.stream().filter(item -> item.get(DanteDirectorConstant.NAME).asText().equals(currentSiteValue.get(DanteDirectorConstant.NAME).asText())).findFirst();
-			currentSiteValue = matchingDomain.orElse(currentSiteValue);
+	private void persistSnapshot() {
+		if (StringUtils.isNullOrEmpty(warmStartFile) || !snapshotDirty.get()) {
+			return;
 		}
-		for (SystemInformation item : SystemInformation.values()) {
-			String propertyName = item.getName();
-			String value = getDefaultValueForNullData(currentSiteValue.get(DanteDirectorConstant.STATUS).get(item.getValue()).asText());
-			JsonNode message = currentSiteValue.get(DanteDirectorConstant.STATUS).get("domainAlertMessage").get(item.getValue());
-			if (message != null && message.has(DanteDirectorConstant.MESSAGE)) {
-				stats.put(propertyName + "Message", message.get(DanteDirectorConstant.MESSAGE).asText());
+		synchronized (snapshotWriteLock) {
+			boolean claimed = false;
+			try {
+				DeviceSnapshotFile snapshotFile = createSnapshotFile();
+				List<JsonNode> domainNodes = domainList;
+				List<JsonNode> domains = new ArrayList<>();
+				if (domainNodes != null) {
+					synchronized (domainNodes) {
+						domains.addAll(domainNodes);
+					}
+				}
+				byte[] content;
+				synchronized (cachedData) {
+					if (cachedData.isEmpty() || !snapshotDirty.compareAndSet(true, false)) {
+						return;
+					}
+					claimed = true;
+					content = snapshotFile.encode(System.currentTimeMillis(), domains, cachedData.values());
+				}
+				snapshotFile.write(content);
+			} catch (Exception e) {
+				if (claimed) {
+					snapshotDirty.set(true);
+				}
+				logger.warn(String.format("Unable to write the warm-start snapshot %s", warmStartFile), e);
 			}
-			stats.put(propertyName, value);
-		}
-		//Name
-		String name = currentSiteValue.get(DanteDirectorConstant.NAME).asText();
-		if (domainList.size() > 1) {
-			addAdvancedControlProperties(advancedControllableProperties, stats, createDropdown(DanteDirectorConstant.SITE_NAME, siteNameList.toArray(new String[0]), name), name);
-		} else {
-			advancedControllableProperties.removeIf(item -> item.getName().equalsIgnoreCase(DanteDirectorConstant.SITE_NAME));
-			stats.put(DanteDirectorConstant.SITE_NAME + DanteDirectorConstant.SPACE, name);
 		}
-		//Number of devices
-		stats.put("NumberOfDevices", String.valueOf(currentSiteValue.get(DanteDirectorConstant.DEVICES).size()));
 	}
 
 	/**
-	 * Populates device details by making a POST request to retrieve information from Dante Director.
-	 * The method clears the existing aggregated device list, processes the response, and updates the list accordingly.
-	 * Any error during the process is logged.
+	 * Creates the accessor of {@link #warmStartFile}, signed with the model mapping the devices are mapped with.
+	 *
+	 * @return the snapshot file
+	 * @throws IOException if the model mapping cannot be read
 	 */
-	private void populateDeviceDetails() {
-		try {
-			JsonNode response = this.doPost(DanteDirectorConstant.URL, DanteDirectorQuery.DEVICES_INFO, JsonNode.class);
-			if (response.has(DanteDirectorConstant.DATA) && response.get(DanteDirectorConstant.DATA).has(DanteDirectorConstant.DOMAINS)) {
-				cachedData.clear();
-				for (JsonNode domainNode : response.get(DanteDirectorConstant.DATA).get(DanteDirectorConstant.DOMAINS)) {
-					String domainId = domainNode.get(DanteDirectorConstant.ID).asText();
-					if (checkExistDomainId(domainId)) {
-						JsonNode jsonArray = domainNode.get(DanteDirectorConstant.DEVICES);
-						for (JsonNode jsonNode : jsonArray) {
-							JsonNode node = objectMapper.createArrayNode().add(jsonNode);
+	private DeviceSnapshotFile createSnapshotFile() throws IOException {
+		return new DeviceSnapshotFile(Paths.get(warmStartFile), DeviceSnapshotFile.resourceSignature(getClass(), DanteDirectorConstant.MODEL_MAPPING_AGGREGATED_DEVICE), objectMapper);
+	}
 
-							String id = jsonNode.get(DanteDirectorConstant.ID).asText();
-							cachedData.removeIf(item -> item.getDeviceId().equals(id));
-							cachedData.addAll(aggregatedDeviceProcessor.extractDevices(node));
-						}
-					}
+	/**
+	 * Builds and publishes a new immutable snapshot of aggregated devices with mapped monitoring properties.
+	 * Only devices that changed since the previous snapshot are rendered again, unless the site names changed.
+	 *
+	 * @return The published list of {@link AggregatedDevice} objects with mapped monitoring properties.
+	 */
+	private List<AggregatedDevice> cloneAndPopulateAggregatedDeviceList() {
+		long startTime = System.nanoTime();
+		List<String> siteNameList = retrieveSiteNames();
+		synchronized (cachedData) {
+			boolean siteNamesChanged = !siteNameList.equals(renderedSiteNames);
+			List<AggregatedDevice> snapshot = new ArrayList<>(cachedData.size());
+			for (DeviceCacheEntry entry : cachedData.values()) {
+				AggregatedDevice renderedDevice = entry.getRenderedDevice();
+				if (renderedDevice == null || siteNamesChanged) {
+					renderedDevice = renderAggregatedDevice(entry, siteNameList);
+					entry.setRenderedDevice(renderedDevice);
 				}
+				snapshot.add(renderedDevice);
 			}
-		} catch (Exception e) {
-			logger.error("Error while populate aggregated device", e);
+			renderedSiteNames = siteNameList;
+			aggregatedDeviceSnapshot = Collections.unmodifiableList(snapshot);
+			adapterMetrics.recordRender(System.nanoTime() - startTime);
+			return aggregatedDeviceSnapshot;
 		}
 	}
 
 	/**
-	 * Clones and populates a new list of aggregated devices with mapped monitoring properties.
+	 * Renders a new aggregated device for Symphony out of a cached device.
 	 *
-	 * @return A new list of {@link AggregatedDevice} objects with mapped monitoring properties.
+	 * @param entry The cache entry of the device, as mapped from the Dante Director response.
+	 * @param siteNameList The site names offered by the SiteName dropdown.
+	 * @return A new {@link AggregatedDevice} with mapped monitoring properties.
 	 */
-	private List<AggregatedDevice> cloneAndPopulateAggregatedDeviceList() {
-		aggregatedDeviceList.clear();
-		synchronized (cachedData) {
-			for (AggregatedDevice item : cachedData) {
-				AggregatedDevice aggregatedDevice = new AggregatedDevice();
-				Map<String, String> cachedValue = item.getProperties();
-				aggregatedDevice.setDeviceId(item.getDeviceId());
-				aggregatedDevice.setDeviceModel(item.getDeviceModel());
-				aggregatedDevice.setDeviceName(item.getDeviceName());
-				aggregatedDevice.setDeviceOnline(item.getDeviceOnline());
+	private AggregatedDevice renderAggregatedDevice(DeviceCacheEntry entry, List<String> siteNameList) {
+		AggregatedDevice item = entry.getDevice();
+		AggregatedDevice aggregatedDevice = new AggregatedDevice();
+		aggregatedDevice.setDeviceId(item.getDeviceId());
+		aggregatedDevice.setDeviceModel(item.getDeviceModel());
+		aggregatedDevice.setDeviceName(item.getDeviceName());
+		aggregatedDevice.setDeviceOnline(item.getDeviceOnline());
+
+		List<AdvancedControllableProperty> controllableProperties = new ArrayList<>();
+		Map<String, String> stats = new HashMap<>();
+		Map<String, String> controlStats = new HashMap<>();
+		mapMonitoringProperty(entry, siteNameList, stats, controlStats, controllableProperties);
+		if (entry.getRestoredSnapshotTime() > 0) {
+			stats.put(DanteDirectorConstant.WARM_START_SNAPSHOT, formatTimestamp(entry.getRestoredSnapshotTime()));
+		}
+		if (Boolean.TRUE.equals(aggregatedDevice.getDeviceOnline())) {
+			stats.putAll(controlStats);
+			aggregatedDevice.setControllableProperties(controllableProperties);
+		}
+		aggregatedDevice.setProperties(stats);
+		return aggregatedDevice;
+	}
 
-				List<AdvancedControllableProperty> controllableProperties = new ArrayList<>();
-				Map<String, String> stats = new HashMap<>();
-				Map<String, String> controlStats = new HashMap<>();
-				mapMonitoringProperty(cachedValue, stats, controlStats, controllableProperties);
-				if (Boolean.TRUE.equals(aggregatedDevice.getDeviceOnline())) {
-					stats.putAll(controlStats);
-					aggregatedDevice.setControllableProperties(controllableProperties);
-				}
-				aggregatedDevice.setProperties(stats);
-				aggregatedDeviceList.add(aggregatedDevice);
-			}
+	/**
+	 * Retrieves the names of the known domains, in the order reported by Dante Director.
+	 *
+	 * @return list of site names
+	 */
+	private List<String> retrieveSiteNames() {
+		List<JsonNode> domains = domainList;
+		if (domains == null) {
+			return Collections.emptyList();
+		}
+		synchronized (domains) {
+			return domains.stream().map(node -> node.get(DanteDirectorConstant.NAME).asText()).collect(Collectors.toList());
 		}
-		return aggregatedDeviceList;
 	}
 
 	/**
@@ -730,12 +2716,16 @@ public class DanteDirectorCommunicator extends RestCommunicator implements Aggre
 	/**
 	 * Maps monitoring properties from cached values to statistics and advanced control properties.
 	 *
-	 * @param cachedValue The cached values map containing raw monitoring data.
+	 * @param entry The cache entry of the device, containing raw monitoring data.
+	 * @param siteNameList The site names offered by the SiteName dropdown.
 	 * @param stats The statistics map to store mapped monitoring properties.
 	 * @param statsControl The advanced control map to store properties requiring control.
 	 * @param advancedControllableProperties The list of advanced controllable properties to be populated.
 	 */
-	private void mapMonitoringProperty(Map<String, String> cachedValue, Map<String, String> stats, Map<String, String> statsControl, List<AdvancedControllableProperty> advancedControllableProperties) {
+	private void mapMonitoringProperty(DeviceCacheEntry entry, List<String> siteNameList, Map<String, String> stats, Map<String, String> statsControl,
+			List<AdvancedControllableProperty> advancedControllableProperties) {
+		Map<String, String> cachedValue = entry.getDevice().getProperties();
+		String deviceId = entry.getDevice().getDeviceId();
 		for (AggregatedInformation property : AggregatedInformation.values()) {
 			String name = property.getName();
 			String propertyName = property.getGroup() + name;
@@ -796,25 +2786,25 @@ public class DanteDirectorCommunicator extends RestCommunicator implements Aggre
 					}
 					break;
 				case SITE_NAME:
-					List<String> siteNameList = domainList.stream().map(node -> node.get(DanteDirectorConstant.NAME).asText()).collect(Collectors.toList());
 					addAdvancedControlProperties(advancedControllableProperties, stats, createDropdown(propertyName, siteNameList.toArray(new String[0]), value), value);
 					break;
 				case RECEIVE_CHANNELS:
-					try {
-						List<ChannelDTO> channelList = objectMapper.readValue(value, new TypeReference<List<ChannelDTO>>() {
-						});
-						if (!channelList.isEmpty()) {
-							for (ChannelDTO item : channelList) {
-								String channelName = item.getName();
-								if (StringUtils.isNotNullOrEmpty(item.getSubscribedChannel()) && StringUtils.isNotNullOrEmpty(item.getSubscribedDevice())) {
-									stats.put(DanteDirectorConstant.RECEIVE_CHANNEL_GROUP + channelName, item.getSubscribedChannel() + "@" + item.getSubscribedDevice());
-								}
-							}
+					for (ChannelDTO item : entry.getReceiveChannels()) {
+						String channelName = item.getName();
+						if (StringUtils.isNotNullOrEmpty(item.getSubscribedChannel()) && StringUtils.isNotNullOrEmpty(item.getSubscribedDevice())) {
+							stats.put(DanteDirectorConstant.RECEIVE_CHANNEL_GROUP + channelName, item.getSubscribedChannel() + "@" + item.getSubscribedDevice());
 						}
-					} catch (Exception e) {
-						logger.error("Error while retrieve Receive Channels", e);
 					}
 					break;
+				case SUBSCRIBERS_COUNT:
+					stats.put(propertyName, String.valueOf(subscriptionGraph.getSubscriberCount(deviceId)));
+					break;
+				case TRANSMIT_FAN_OUT:
+					stats.put(propertyName, String.valueOf(subscriptionGraph.getTransmitFanOut(deviceId)));
+					break;
+				case BROKEN_SUBSCRIPTIONS:
+					stats.put(propertyName, String.valueOf(subscriptionGraph.getBrokenSubscriptions(deviceId)));
+					break;
 				default:
 					stats.put(propertyName, value);
 			}
@@ -829,8 +2819,27 @@ public class DanteDirectorCommunicator extends RestCommunicator implements Aggre
 	 * @param value The new value to set for the property.
 	 */
 	private void updateCacheValue(String deviceId, String name, String value) {
-		cachedData.stream().filter(item -> deviceId.equals(item.getDeviceId()))
-				.findFirst().ifPresent(item -> item.getProperties().put(name, value));
+		updateCacheValues(deviceId, Collections.singletonMap(name, value));
+	}
+
+	/**
+	 * Updates several cache values of a device in a single lookup.
+	 * The update holds the cache lock, so a snapshot being rendered cannot keep the previous values.
+	 *
+	 * @param deviceId The ID of the device whose cache values need to be updated.
+	 * @param values The new values, by property name.
+	 */
+	private void updateCacheValues(String deviceId, Map<String, String> values) {
+		synchronized (cachedData) {
+			DeviceCacheEntry entry = cachedData.get(deviceId);
+			if (entry != null) {
+				entry.getDevice().getProperties().putAll(values);
+				controlTimestamps.put(deviceId, System.currentTimeMillis());
+				// the optimistic values have to be replaced by the reported ones on the next cycle, even if the device json is unchanged
+				entry.setFingerprint(null);
+				entry.setRenderedDevice(null);
+			}
+		}
 	}
 
 	/**
@@ -860,6 +2869,18 @@ public class DanteDirectorCommunicator extends RestCommunicator implements Aggre
 		}
 	}
 
+	/**
+	 * Formats a timestamp in the target format with GMT timezone.
+	 *
+	 * @param timestamp the timestamp, in milliseconds
+	 * @return the formatted timestamp
+	 */
+	private String formatTimestamp(long timestamp) {
+		SimpleDateFormat outputFormat = new SimpleDateFormat(DanteDirectorConstant.TARGET_FORMAT_DATETIME);
+		outputFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
+		return outputFormat.format(new Date(timestamp));
+	}
+
 	/**
 	 * check value is null or empty
 	 *
@@ -0,0 +1,302 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Self-metrics of the adapter: Dante Director requests, collection cycles, device mapping, snapshot rendering and controls.
+ * Every event is recorded into counters and fixed-bucket histograms, without allocation nor locking, so the metrics can stay
+ * enabled on the collection hot paths. They are published as the {@link DanteDirectorConstant#ADAPTER_METRICS_GROUP} statistics,
+ * and in the Prometheus format by the {@link MetricsEndpoint}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.0
+ */
+public class AdapterMetrics {
+	/**
+	 * Upper bounds of the request duration buckets exposed to Prometheus, in microseconds
+	 */
+	private static final long[] REQUEST_DURATION_BOUNDS = { 5000, 10000, 25000, 50000, 100000, 250000, 500000, 1000000, 2500000, 5000000, 10000000, 30000000 };
+
+	private final LatencyHistogram requestLatency = new LatencyHistogram();
+	/**
+	 * Number of requests by {@link #REQUEST_DURATION_BOUNDS} bucket, the last one counting the requests above every bound.
+	 * Kept apart from {@link #requestLatency}, whose log-linear bucket edges do not fall on the exported bounds.
+	 */
+	private final AtomicLongArray requestDurationBuckets = new AtomicLongArray(REQUEST_DURATION_BOUNDS.length + 1);
+	private final LongAdder failedRequests = new LongAdder();
+	private final LongAdder bytesReceived = new LongAdder();
+	private final LongAdder devicesReceived = new LongAdder();
+	private final LongAdder devicesMapped = new LongAdder();
+	private final LongAdder mappingTime = new LongAdder();
+	private final LongAdder devicesChanged = new LongAdder();
+	private final LongAdder succeededControls = new LongAdder();
+	private final LongAdder failedControls = new LongAdder();
+	private volatile long lastCycleDuration;
+	private volatile long lastRenderDuration;
+
+	/**
+	 * Records a Dante Director request
+	 *
+	 * @param durationNanos the time from the request to the end of its response body, in nanoseconds
+	 * @param succeeded whether the request succeeded
+	 */
+	public void recordRequest(long durationNanos, boolean succeeded) {
+		requestLatency.record(durationNanos);
+		int bucket = 0;
+		while (bucket < REQUEST_DURATION_BOUNDS.length && durationNanos > TimeUnit.MICROSECONDS.toNanos(REQUEST_DURATION_BOUNDS[bucket])) {
+			bucket++;
+		}
+		requestDurationBuckets.incrementAndGet(bucket);
+		if (!succeeded) {
+			failedRequests.increment();
+		}
+	}
+
+	/**
+	 * Records a failed Dante Director request whose response was already recorded by {@link #recordRequest(long, boolean)}
+	 * as succeeded: GraphQL errors are reported in the body of a response with a successful HTTP status.
+	 */
+	public void recordErrorResponse() {
+		failedRequests.increment();
+	}
+
+	/**
+	 * Records bytes of a response body read from Dante Director
+	 *
+	 * @param bytes the number of bytes
+	 */
+	public void addBytesReceived(long bytes) {
+		bytesReceived.add(bytes);
+	}
+
+	/**
+	 * Records the duration of a collection cycle
+	 *
+	 * @param durationNanos the duration of the cycle, in nanoseconds
+	 */
+	public void recordCycle(long durationNanos) {
+		lastCycleDuration = durationNanos;
+	}
+
+	/**
+	 * Records a device received from Dante Director, mapped or not
+	 */
+	public void recordDeviceReceived() {
+		devicesReceived.increment();
+	}
+
+	/**
+	 * Records a new or changed device run through the model mapping
+	 *
+	 * @param durationNanos the duration of the mapping, in nanoseconds
+	 */
+	public void recordDeviceMapped(long durationNanos) {
+		devicesMapped.increment();
+		mappingTime.add(durationNanos);
+	}
+
+	/**
+	 * Records a cached device mapped again because its json changed
+	 */
+	public void recordDeviceChanged() {
+		devicesChanged.increment();
+	}
+
+	/**
+	 * Records the duration of the rendering of a devices snapshot
+	 *
+	 * @param durationNanos the duration of the rendering, in nanoseconds
+	 */
+	public void recordRender(long durationNanos) {
+		lastRenderDuration = durationNanos;
+	}
+
+	/**
+	 * Records the outcome of device controls
+	 *
+	 * @param count the number of controls
+	 * @param succeeded whether the controls succeeded
+	 */
+	public void recordControls(int count, boolean succeeded) {
+		if (succeeded) {
+			succeededControls.add(count);
+		} else {
+			failedControls.add(count);
+		}
+	}
+
+	/**
+	 * Puts the metrics into the aggregator statistics, under the {@link DanteDirectorConstant#ADAPTER_METRICS_GROUP} group
+	 *
+	 * @param stats the statistics to populate
+	 */
+	public void populateStatistics(Map<String, String> stats) {
+		String group = DanteDirectorConstant.ADAPTER_METRICS_GROUP;
+		long mapped = devicesMapped.sum();
+		stats.put(group + DanteDirectorConstant.LAST_CYCLE_DURATION, String.valueOf(TimeUnit.NANOSECONDS.toMillis(lastCycleDuration)));
+		stats.put(group + DanteDirectorConstant.API_REQUESTS, String.valueOf(requestLatency.getCount()));
+		stats.put(group + DanteDirectorConstant.API_FAILED_REQUESTS, String.valueOf(failedRequests.sum()));
+		stats.put(group + DanteDirectorConstant.API_LATENCY_P50, formatMillis(requestLatency.getPercentile(50)));
+		stats.put(group + DanteDirectorConstant.API_LATENCY_P95, formatMillis(requestLatency.getPercentile(95)));
+		stats.put(group + DanteDirectorConstant.API_LATENCY_P99, formatMillis(requestLatency.getPercentile(99)));
+		stats.put(group + DanteDirectorConstant.BYTES_RECEIVED, String.valueOf(bytesReceived.sum()));
+		stats.put(group + DanteDirectorConstant.DEVICES_RECEIVED, String.valueOf(devicesReceived.sum()));
+		stats.put(group + DanteDirectorConstant.DEVICES_MAPPED, String.valueOf(mapped));
+		stats.put(group + DanteDirectorConstant.DEVICES_CHANGED, String.valueOf(devicesChanged.sum()));
+		stats.put(group + DanteDirectorConstant.MAPPING_AVERAGE_TIME, formatMillis(mapped == 0 ? 0 : mappingTime.sum() / mapped));
+		stats.put(group + DanteDirectorConstant.LAST_RENDER_DURATION, formatMillis(lastRenderDuration));
+		stats.put(group + DanteDirectorConstant.CONTROLS_SUCCEEDED, String.valueOf(succeededControls.sum()));
+		stats.put(group + DanteDirectorConstant.CONTROLS_FAILED, String.valueOf(failedControls.sum()));
+	}
+
+	/**
+	 * Appends the metrics in the Prometheus text exposition format
+	 *
+	 * @param builder the exposition being built
+	 */
+	public void appendPrometheus(StringBuilder builder) {
+		PrometheusFormat.appendHeader(builder, "dante_adapter_request_duration_seconds", "histogram", "Duration of the Dante Director requests, until their response is read.");
+		// counted from the buckets, so that the exposed buckets stay consistent while requests are recorded
+		long requestCount = 0;
+		for (int i = 0; i < REQUEST_DURATION_BOUNDS.length; i++) {
+			requestCount += requestDurationBuckets.get(i);
+			PrometheusFormat.appendSample(builder, "dante_adapter_request_duration_seconds_bucket", PrometheusFormat.label("le", String.valueOf(REQUEST_DURATION_BOUNDS[i] / 1e6)),
+					requestCount);
+		}
+		requestCount += requestDurationBuckets.get(REQUEST_DURATION_BOUNDS.length);
+		PrometheusFormat.appendSample(builder, "dante_adapter_request_duration_seconds_bucket", PrometheusFormat.label("le", "+Inf"), requestCount);
+		PrometheusFormat.appendSample(builder, "dante_adapter_request_duration_seconds_sum", null, requestLatency.getSum() / 1e9);
+		PrometheusFormat.appendSample(builder, "dante_adapter_request_duration_seconds_count", null, requestCount);
+		appendCounter(builder, "dante_adapter_request_failures_total", "Number of failed Dante Director requests.", failedRequests.sum());
+		appendCounter(builder, "dante_adapter_received_bytes_total", "Number of response bytes received from Dante Director.", bytesReceived.sum());
+		appendCounter(builder, "dante_adapter_devices_received_total", "Number of devices received from Dante Director.", devicesReceived.sum());
+		appendCounter(builder, "dante_adapter_devices_mapped_total", "Number of new or changed devices run through the model mapping.", devicesMapped.sum());
+		appendCounter(builder, "dante_adapter_mapping_seconds_total", "Time spent in the model mapping.", mappingTime.sum() / 1e9);
+		appendCounter(builder, "dante_adapter_devices_changed_total", "Number of cached devices mapped again because their json changed.", devicesChanged.sum());
+		PrometheusFormat.appendHeader(builder, "dante_adapter_controls_total", "counter", "Number of device controls, by result.");
+		PrometheusFormat.appendSample(builder, "dante_adapter_controls_total", PrometheusFormat.label("result", "success"), succeededControls.sum());
+		PrometheusFormat.appendSample(builder, "dante_adapter_controls_total", PrometheusFormat.label("result", "failure"), failedControls.sum());
+		PrometheusFormat.appendHeader(builder, "dante_adapter_last_cycle_duration_seconds", "gauge", "Duration of the last collection cycle.");
+		PrometheusFormat.appendSample(builder, "dante_adapter_last_cycle_duration_seconds", null, lastCycleDuration / 1e9);
+		PrometheusFormat.appendHeader(builder, "dante_adapter_last_render_duration_seconds", "gauge", "Duration of the last rendering of the devices snapshot.");
+		PrometheusFormat.appendSample(builder, "dante_adapter_last_render_duration_seconds", null, lastRenderDuration / 1e9);
+	}
+
+	private static void appendCounter(StringBuilder builder, String name, String help, double value) {
+		PrometheusFormat.appendHeader(builder, name, "counter", help);
+		PrometheusFormat.appendSample(builder, name, null, value);
+	}
+
+	private static String formatMillis(long nanos) {
+		return String.format(Locale.ROOT, "%.3f", nanos / 1e6);
+	}
+
+	/**
+	 * Histogram of durations with fixed log-linear buckets: four buckets per power of two of microseconds, so that a
+	 * percentile is reported within 25% of its actual value, from 1 microsecond to several hours.
+	 */
+	public static class LatencyHistogram {
+		private static final int SUB_BUCKETS = 4;
+		private static final int BUCKET_COUNT = 160;
+
+		private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+		private final LongAdder count = new LongAdder();
+		private final LongAdder sum = new LongAdder();
+
+		/**
+		 * Records a duration
+		 *
+		 * @param durationNanos the duration, in nanoseconds
+		 */
+		public void record(long durationNanos) {
+			buckets.incrementAndGet(bucketIndex(TimeUnit.NANOSECONDS.toMicros(Math.max(0, durationNanos))));
+			count.increment();
+			sum.add(Math.max(0, durationNanos));
+		}
+
+		/**
+		 * Retrieves the number of recorded durations
+		 *
+		 * @return the number of recorded durations
+		 */
+		public long getCount() {
+			return count.sum();
+		}
+
+		/**
+		 * Retrieves the sum of the recorded durations
+		 *
+		 * @return the sum, in nanoseconds
+		 */
+		public long getSum() {
+			return sum.sum();
+		}
+
+		/**
+		 * Retrieves a percentile of the recorded durations, as the upper bound of the bucket it falls into
+		 *
+		 * @param percentile the percentile, between 0 and 100
+		 * @return the percentile in nanoseconds, 0 when no duration was recorded
+		 */
+		public long getPercentile(double percentile) {
+			long[] counts = new long[BUCKET_COUNT];
+			long total = 0;
+			for (int i = 0; i < BUCKET_COUNT; i++) {
+				counts[i] = buckets.get(i);
+				total += counts[i];
+			}
+			if (total == 0) {
+				return 0;
+			}
+			long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+			long cumulated = 0;
+			for (int i = 0; i < BUCKET_COUNT; i++) {
+				cumulated += counts[i];
+				if (cumulated >= rank) {
+					return TimeUnit.MICROSECONDS.toNanos(bucketUpperBound(i));
+				}
+			}
+			return TimeUnit.MICROSECONDS.toNanos(bucketUpperBound(BUCKET_COUNT - 1));
+		}
+
+		/**
+		 * Retrieves the bucket of a value: values below {@link #SUB_BUCKETS} have their own bucket, and every following power of two
+		 * is split into {@link #SUB_BUCKETS} buckets by the two bits following its most significant bit.
+		 *
+		 * @param value the value, in microseconds
+		 * @return the bucket index
+		 */
+		static int bucketIndex(long value) {
+			if (value < SUB_BUCKETS) {
+				return (int) value;
+			}
+			int mostSignificantBit = 63 - Long.numberOfLeadingZeros(value);
+			int subBucket = (int) (value >>> (mostSignificantBit - 2)) & (SUB_BUCKETS - 1);
+			return Math.min(BUCKET_COUNT - 1, SUB_BUCKETS * (mostSignificantBit - 1) + subBucket);
+		}
+
+		/**
+		 * Retrieves the highest value of a bucket
+		 *
+		 * @param index the bucket index
+		 * @return the highest value of the bucket, in microseconds
+		 */
+		static long bucketUpperBound(int index) {
+			if (index < SUB_BUCKETS) {
+				return index;
+			}
+			int mostSignificantBit = index / SUB_BUCKETS + 1;
+			int subBucket = index % SUB_BUCKETS;
+			return ((SUB_BUCKETS + subBucket + 1L) << (mostSignificantBit - 2)) - 1;
+		}
+	}
+}
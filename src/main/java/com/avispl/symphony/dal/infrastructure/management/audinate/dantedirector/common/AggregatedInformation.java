@@ -44,6 +44,9 @@ public enum AggregatedInformation {
 	DELAY_REQUEST("V1DelayRequests", DanteDirectorConstant.CLOCK_SYNCHRONISATION_GROUP),
 	FREQUENCY("FrequencyOffset(ppm)", DanteDirectorConstant.CLOCK_SYNCHRONISATION_GROUP),
 	RECEIVE_CHANNELS("ReceiveChannels", DanteDirectorConstant.CLOCK_SYNCHRONISATION_GROUP),
+	SUBSCRIBERS_COUNT("SubscribersCount", DanteDirectorConstant.CHANNEL_SUBSCRIPTIONS_GROUP),
+	TRANSMIT_FAN_OUT("TransmitFanOut", DanteDirectorConstant.CHANNEL_SUBSCRIPTIONS_GROUP),
+	BROKEN_SUBSCRIPTIONS("BrokenSubscriptions", DanteDirectorConstant.CHANNEL_SUBSCRIPTIONS_GROUP),
 	;
 	private final String name;
 	private final String group;
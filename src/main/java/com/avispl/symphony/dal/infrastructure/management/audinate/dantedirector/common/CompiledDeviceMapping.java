@@ -0,0 +1,350 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.beanutils.BeanUtilsBean;
+import org.apache.commons.beanutils.Converter;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.aggregator.parser.AggregatedDeviceProcessor;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
+import com.avispl.symphony.dal.aggregator.parser.converter.JsonPropertyConverter;
+import com.avispl.symphony.dal.util.StringUtils;
+
+/**
+ * Device mapping compiled once out of the models loaded from the model mapping yml, producing the same devices as
+ * {@link AggregatedDeviceProcessor#extractDevices(JsonNode)} without evaluating the expressions of every property for every device.
+ * Expressions made of {@code get("field")} and {@code get(index)} steps, optionally compared with
+ * {@code .asText().equalsIgnoreCase("value")}, are compiled into path lookups that keep the null-safe navigation
+ * semantics of the expressions. Any other expression is still evaluated by {@link JsonPropertyConverter}.
+ * Models with a node, control properties or statistics are not supported, so the deprecated statistics and control maps
+ * of the devices are never populated.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.0
+ */
+public class CompiledDeviceMapping {
+	private static final Log log = LogFactory.getLog(CompiledDeviceMapping.class);
+
+	/**
+	 * Pattern the processor uses to tell an expression from a static value
+	 */
+	private static final String EXPRESSION_PATTERN = ".+?[a-zA-Z]+?\\(.+?\\).*?";
+
+	private static final Pattern STEP_PATTERN = Pattern.compile("\\G(\\?\\.|\\.)?get\\((?:\"([^\"]*)\"|(\\d+))\\)");
+	private static final Pattern COMPARISON_PATTERN = Pattern.compile("\\G\\.asText\\(\\)\\.equalsIgnoreCase\\(\"([^\"]*)\"\\)$");
+
+	private final JsonPropertyConverter jsonPropertyConverter = new JsonPropertyConverter();
+	private final BeanUtilsBean beanUtilsBean = new BeanUtilsBean();
+	private final List<CompiledModel> models = new ArrayList<>();
+
+	/**
+	 * Compiles the given models.
+	 *
+	 * @param mapping The models loaded from the model mapping yml, by model name.
+	 * @throws IllegalArgumentException If a model uses a node or control properties.
+	 */
+	public CompiledDeviceMapping(Map<String, PropertiesMapping> mapping) {
+		// list properties are converted as the processor does
+		beanUtilsBean.getConvertUtils().register(new Converter() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> T convert(Class<T> type, Object value) {
+				return (T) Collections.singletonList(value);
+			}
+		}, List.class);
+		for (Map.Entry<String, PropertiesMapping> model : mapping.entrySet()) {
+			PropertiesMapping propertiesMapping = model.getValue();
+			if (StringUtils.isNotNullOrEmpty(propertiesMapping.getNode())) {
+				throw new IllegalArgumentException(String.format("Model %s maps a node, which is not supported", model.getKey()));
+			}
+			if (propertiesMapping.getControlProperties() != null && !propertiesMapping.getControlProperties().isEmpty()) {
+				throw new IllegalArgumentException(String.format("Model %s maps control properties, which are not supported", model.getKey()));
+			}
+			if (propertiesMapping.getStatistics() != null && !propertiesMapping.getStatistics().isEmpty()) {
+				throw new IllegalArgumentException(String.format("Model %s maps statistics, which are not supported", model.getKey()));
+			}
+			models.add(new CompiledModel(compileExpression(propertiesMapping.getFilter()), compileProperties(propertiesMapping.getDeviceProperties()),
+					compileProperties(propertiesMapping.getProperties()), compileProperties(propertiesMapping.getDynamicStatistics())));
+		}
+	}
+
+	/**
+	 * Maps every device of the given json array, as {@link AggregatedDeviceProcessor#extractDevices(JsonNode)} does.
+	 *
+	 * @param devices The devices json array.
+	 * @return list of the mapped devices.
+	 */
+	public List<AggregatedDevice> extractDevices(JsonNode devices) {
+		List<AggregatedDevice> result = new ArrayList<>();
+		for (CompiledModel model : models) {
+			for (JsonNode device : devices) {
+				mapDevice(model, device, result);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Maps a single device json, without wrapping it into an array.
+	 *
+	 * @param device The device json.
+	 * @return list of the devices mapped by every model whose filter matches the device.
+	 */
+	public List<AggregatedDevice> extractDevice(JsonNode device) {
+		List<AggregatedDevice> result = new ArrayList<>(1);
+		for (CompiledModel model : models) {
+			mapDevice(model, device, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Maps a device json with the given model, if its filter matches the device.
+	 *
+	 * @param model The compiled model.
+	 * @param device The device json.
+	 * @param result The list to add the mapped device into.
+	 */
+	private void mapDevice(CompiledModel model, JsonNode device, List<AggregatedDevice> result) {
+		if (model.filter == null || !Boolean.parseBoolean(model.filter.apply(device))) {
+			return;
+		}
+		AggregatedDevice aggregatedDevice = new AggregatedDevice();
+		for (Map.Entry<String, Function<JsonNode, String>> deviceProperty : model.deviceProperties.entrySet()) {
+			setDeviceProperty(aggregatedDevice, deviceProperty.getKey(), deviceProperty.getValue().apply(device));
+		}
+		aggregatedDevice.setProperties(mapProperties(device, model.properties));
+		aggregatedDevice.setDynamicStatistics(mapProperties(device, model.dynamicStatistics));
+		aggregatedDevice.setControllableProperties(new ArrayList<>());
+		result.add(aggregatedDevice);
+	}
+
+	/**
+	 * Maps the given properties of a device json, dropping the empty values.
+	 *
+	 * @param device The device json.
+	 * @param properties The compiled properties, by property name.
+	 * @return map of the property values.
+	 */
+	private Map<String, String> mapProperties(JsonNode device, Map<String, Function<JsonNode, String>> properties) {
+		Map<String, String> values = new HashMap<>();
+		for (Map.Entry<String, Function<JsonNode, String>> property : properties.entrySet()) {
+			String value = property.getValue().apply(device);
+			if (StringUtils.isNotNullOrEmpty(value)) {
+				values.put(property.getKey(), value);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Sets a device property, directly for the common ones and through {@link BeanUtilsBean} for the others.
+	 *
+	 * @param device The device to update.
+	 * @param name The name of the device property.
+	 * @param value The mapped value.
+	 */
+	private void setDeviceProperty(AggregatedDevice device, String name, String value) {
+		switch (name) {
+			case "deviceId":
+				device.setDeviceId(value);
+				return;
+			case "deviceName":
+				device.setDeviceName(value);
+				return;
+			case "deviceModel":
+				device.setDeviceModel(value);
+				return;
+			case "deviceMake":
+				device.setDeviceMake(value);
+				return;
+			case "serialNumber":
+				device.setSerialNumber(value);
+				return;
+			case "deviceOnline":
+				if ("true".equals(value) || "false".equals(value)) {
+					device.setDeviceOnline(Boolean.valueOf(value));
+					return;
+				}
+				break;
+			default:
+				break;
+		}
+		try {
+			beanUtilsBean.setProperty(device, name, value);
+		} catch (ReflectiveOperationException e) {
+			log.error("Failed to applyProperties: " + name, e);
+		}
+	}
+
+	/**
+	 * Compiles the expressions of the given properties.
+	 *
+	 * Values that are not expressions are mapped as they are.
+	 *
+	 * @param properties The property expressions, by property name, may be null.
+	 * @return map of the compiled properties, in the order of the yml.
+	 */
+	private Map<String, Function<JsonNode, String>> compileProperties(Map<String, String> properties) {
+		if (properties == null) {
+			return Collections.emptyMap();
+		}
+		Map<String, Function<JsonNode, String>> compiledProperties = new LinkedHashMap<>();
+		for (Map.Entry<String, String> property : properties.entrySet()) {
+			String expression = property.getValue();
+			if (!expression.matches(EXPRESSION_PATTERN)) {
+				compiledProperties.put(property.getKey(), device -> expression);
+			} else {
+				compiledProperties.put(property.getKey(), compileExpression(expression));
+			}
+		}
+		return compiledProperties;
+	}
+
+	/**
+	 * Compiles an expression into a path lookup, falling back to {@link JsonPropertyConverter} when it is not a supported one.
+	 *
+	 * @param expression The expression.
+	 * @return function retrieving the value of the expression out of a device json, null if the expression is empty.
+	 */
+	private Function<JsonNode, String> compileExpression(String expression) {
+		if (StringUtils.isNullOrEmpty(expression)) {
+			return null;
+		}
+		String trimmedExpression = expression.trim();
+		if ("true".equals(trimmedExpression) || "false".equals(trimmedExpression)) {
+			return device -> trimmedExpression;
+		}
+		List<PathStep> steps = new ArrayList<>();
+		Matcher matcher = STEP_PATTERN.matcher(trimmedExpression);
+		int end = 0;
+		while (matcher.find()) {
+			if (steps.isEmpty() != (matcher.group(1) == null)) {
+				// only the first step is not preceded by a separator
+				return fallback(expression);
+			}
+			steps.add(new PathStep(matcher.group(2), matcher.group(3) == null ? -1 : Integer.parseInt(matcher.group(3)), "?.".equals(matcher.group(1))));
+			end = matcher.end();
+		}
+		if (steps.isEmpty()) {
+			return fallback(expression);
+		}
+		if (end == trimmedExpression.length()) {
+			return device -> toValue(resolvePath(device, steps, expression));
+		}
+		Matcher comparison = COMPARISON_PATTERN.matcher(trimmedExpression);
+		if (!comparison.find(end)) {
+			return fallback(expression);
+		}
+		String comparedValue = comparison.group(1);
+		return device -> {
+			JsonNode node = resolvePath(device, steps, expression);
+			if (node == null) {
+				throw new IllegalStateException(String.format("Method asText() cannot be called on null in expression %s", expression));
+			}
+			return String.valueOf(node.asText().equalsIgnoreCase(comparedValue));
+		};
+	}
+
+	/**
+	 * Keeps evaluating an expression with {@link JsonPropertyConverter}.
+	 *
+	 * @param expression The expression.
+	 * @return function evaluating the expression against a device json.
+	 */
+	private Function<JsonNode, String> fallback(String expression) {
+		if (log.isDebugEnabled()) {
+			log.debug("Expression is evaluated without compilation: " + expression);
+		}
+		return device -> jsonPropertyConverter.retrieveJsonValue(device, expression);
+	}
+
+	/**
+	 * Resolves the steps of a path against a device json. A step on a null node yields null when it is null-safe and fails otherwise.
+	 *
+	 * @param device The device json.
+	 * @param steps The steps of the path.
+	 * @param expression The expression the path was compiled from, for the error message.
+	 * @return the node at the end of the path, null if missing.
+	 */
+	private static JsonNode resolvePath(JsonNode device, List<PathStep> steps, String expression) {
+		JsonNode node = device;
+		for (PathStep step : steps) {
+			if (node == null) {
+				if (!step.nullSafe) {
+					throw new IllegalStateException(String.format("Method get() cannot be called on null in expression %s", expression));
+				}
+				continue;
+			}
+			node = step.field != null ? node.get(step.field) : node.get(step.index);
+		}
+		return node;
+	}
+
+	/**
+	 * Converts a resolved node into a property value, as {@link JsonPropertyConverter#retrieveJsonValue(JsonNode, String)} does.
+	 *
+	 * @param node The resolved node, may be null.
+	 * @return text of a text node, json of any other node, empty for a missing or null node.
+	 */
+	private static String toValue(JsonNode node) {
+		if (node == null || node instanceof NullNode) {
+			return "";
+		}
+		String value = node instanceof TextNode ? node.asText() : node.toString();
+		return "null".equals(value) ? "" : value;
+	}
+
+	/**
+	 * Single {@code get} step of a compiled path.
+	 */
+	private static final class PathStep {
+		private final String field;
+		private final int index;
+		private final boolean nullSafe;
+
+		private PathStep(String field, int index, boolean nullSafe) {
+			this.field = field;
+			this.index = index;
+			this.nullSafe = nullSafe;
+		}
+	}
+
+	/**
+	 * Compiled model of the model mapping yml.
+	 */
+	private static final class CompiledModel {
+		private final Function<JsonNode, String> filter;
+		private final Map<String, Function<JsonNode, String>> deviceProperties;
+		private final Map<String, Function<JsonNode, String>> properties;
+		private final Map<String, Function<JsonNode, String>> dynamicStatistics;
+
+		private CompiledModel(Function<JsonNode, String> filter, Map<String, Function<JsonNode, String>> deviceProperties, Map<String, Function<JsonNode, String>> properties,
+				Map<String, Function<JsonNode, String>> dynamicStatistics) {
+			this.filter = filter;
+			this.deviceProperties = deviceProperties;
+			this.properties = properties;
+			this.dynamicStatistics = dynamicStatistics;
+		}
+	}
+}
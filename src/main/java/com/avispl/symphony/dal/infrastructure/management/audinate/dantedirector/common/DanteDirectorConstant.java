@@ -27,18 +27,53 @@ public class DanteDirectorConstant {
 	public static final String CLOCK_SYNCHRONISATION_GROUP = "ClockSynchronisation#";
 	public static final String STATUS_GROUP = "Status#";
 	public static final String RECEIVE_CHANNEL_GROUP = "ReceiveChannels#";
+	public static final String CHANNEL_SUBSCRIPTIONS_GROUP = "ChannelSubscriptions#";
+	public static final String ADAPTER_METRICS_GROUP = "AdapterMetrics#";
+	public static final String LAST_CYCLE_DURATION = "LastCycleDuration(ms)";
+	public static final String API_REQUESTS = "APIRequests";
+	public static final String API_FAILED_REQUESTS = "APIFailedRequests";
+	public static final String API_LATENCY_P50 = "APILatencyP50(ms)";
+	public static final String API_LATENCY_P95 = "APILatencyP95(ms)";
+	public static final String API_LATENCY_P99 = "APILatencyP99(ms)";
+	public static final String BYTES_RECEIVED = "BytesReceived";
+	public static final String DEVICES_RECEIVED = "DevicesReceived";
+	public static final String DEVICES_MAPPED = "DevicesMapped";
+	public static final String DEVICES_CHANGED = "DevicesChanged";
+	public static final String MAPPING_AVERAGE_TIME = "MappingAverageTime(ms)";
+	public static final String LAST_RENDER_DURATION = "LastRenderDuration(ms)";
+	public static final String CONTROLS_SUCCEEDED = "ControlsSucceeded";
+	public static final String CONTROLS_FAILED = "ControlsFailed";
 	public static final String DEFAULT_FORMAT_DATETIME = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
 	public static final String TARGET_FORMAT_DATETIME = "MMM d, yyyy, h:mm a";
 	public static final String SITE_NAME = "SiteName";
+	public static final String EFFECTIVE_COLLECTION_INTERVAL = "EffectiveCollectionInterval(s)";
+	public static final String WARM_START_SNAPSHOT = "WarmStartSnapshot(GMT)";
 	public static final String CAPABILITY = "Capability";
 	public static final String ERRORS = "errors";
 	public static final String DATA = "data";
 	public static final String DOMAINS = "domains";
+	public static final String DOMAIN = "domain";
 	public static final String NAME = "name";
 	public static final String STATUS = "status";
 	public static final String DEVICES = "devices";
+	public static final String DEVICE = "device";
+	public static final String QUERY = "query";
+	public static final String VARIABLES = "variables";
+	public static final String DOMAIN_ID = "domainId";
+	public static final String DEVICE_ID = "deviceId";
+	public static final String INPUT = "input";
+	public static final String CONTROL = "control";
+	public static final String ENABLED = "enabled";
+	public static final String OK = "ok";
+	public static final String PATH = "path";
 	public static final String ID = "id";
 	public static final String EXTENSIONS = "extensions";
 	public static final String CODE = "code";
 	public static final String MESSAGE = "message";
+	public static final String RX_CHANNELS = "rxChannels";
+	public static final String MEDIA_TYPE = "mediaType";
+	public static final String SUBSCRIBED_CHANNEL = "subscribedChannel";
+	public static final String SUBSCRIBED_DEVICE = "subscribedDevice";
+	public static final int DEVICE_LOCK_STRIPES = 64;
+	public static final long LOADER_TERMINATION_TIMEOUT = 10000;
 }
@@ -23,22 +23,72 @@ public class DanteDirectorQuery {
 			+ "latency { message  messageSeverity }  "
 			+ "subscriptions { message  messageSeverity } } }   } }\"}";
 
-	public static final String DEVICES_INFO = "{\"query\":\"query Devices "
-			+ "{ domains {  id name "
-			+ "devices { "
-			+ "id  name  enrolmentState  comments description  location "
+	/**
+	 * Volatile device fields, also requested on their own by {@link #DEVICES_STATUS}
+	 */
+	private static final String DEVICE_STATUS_FIELDS = "connection { state lastChanged }  "
+			+ "status { clocking connectivity latency subscriptions summary "
+			+ "alertMessage { clocking  connectivity  latency  subscriptions }}  "
+			+ "clockingState { followerWithoutLeader frequencyOffset grandLeader locked multicastLeader muteStatus unicastFollower unicastLeader } "
+			+ "clockPreferences { externalWordClock leader unicastClocking v1UnicastDelayRequests } ";
+
+	/**
+	 * Device fields requested by every device query, shared between the account wide and the domain scoped queries
+	 */
+	private static final String DEVICE_FIELDS = "id  name  enrolmentState  comments description  location "
 			+ "domain { name } "
-			+ "connection { state lastChanged }  "
 			+ "discovery { type fqdn } "
 			+ "identity { productModelName productVersion danteHardwareVersion productSoftwareVersion danteVersion } "
 			+ "manufacturer { name } "
 			+ "interfaces { address macAddress subnet netmask} "
 			+ "capabilities { CAN_WRITE_UNICAST_DELAY_REQUESTS  CAN_WRITE_PREFERRED_MASTER  CAN_WRITE_EXT_WORD_CLOCK  CAN_UNICAST_CLOCKING   } "
-			+ "status { clocking connectivity latency subscriptions summary "
-			+ "alertMessage { clocking  connectivity  latency  subscriptions }}  "
 			+ "rxChannels { mediaType  name  subscribedChannel  subscribedDevice  } "
-			+ "clockingState { followerWithoutLeader frequencyOffset grandLeader locked multicastLeader muteStatus unicastFollower unicastLeader } "
-			+ "clockPreferences { externalWordClock leader unicastClocking v1UnicastDelayRequests } } } }\"}";
+			+ DEVICE_STATUS_FIELDS;
+
+	public static final String DEVICES_INFO = "{\"query\":\"query Devices "
+			+ "{ domains {  id name "
+			+ "devices { "
+			+ DEVICE_FIELDS
+			+ "} } }\"}";
+
+	public static final String DOMAINS_DEVICES_INFO = "{\"query\":\"query DomainsDevices "
+			+ "{ domains {    "
+			+ "name    id  "
+			+ "status { clocking  connectivity  latency  subscriptions summary "
+			+ "domainAlertMessage {  "
+			+ "clocking { message  messageSeverity }  "
+			+ "connectivity { message  messageSeverity }  "
+			+ "latency { message  messageSeverity }  "
+			+ "subscriptions { message  messageSeverity } } }   "
+			+ "devices { "
+			+ DEVICE_FIELDS
+			+ "} } }\"}";
+
+	public static final String DEVICES_STATUS = "{\"query\":\"query DevicesStatus "
+			+ "{ domains {  id "
+			+ "devices { id  "
+			+ DEVICE_STATUS_FIELDS
+			+ "} } }\"}";
+
+	public static final String DOMAIN_DEVICES_INFO = "{\"query\":\"query Domain($id: ID!) "
+			+ "{ domain(id: $id) {  id name "
+			+ "devices { "
+			+ DEVICE_FIELDS
+			+ "} } }\","
+			+ "\"variables\": {"
+			+ "\"id\":\"%s\"}}";
+
+	/**
+	 * GraphQL document (not wrapped in a request body) retrieving a set of devices by id,
+	 * to be formatted with the variable definitions and the {@link #DEVICE_BY_ID_SELECTION} of every device
+	 */
+	public static final String DEVICES_BY_ID = "query DevicesById(%s) { %s }";
+
+	public static final String DEVICE_BY_ID_VARIABLES = "$domainId%1$d: ID!, $deviceId%1$d: ID!";
+
+	public static final String DEVICE_BY_ID_SELECTION = "device%1$d: domain(id: $domainId%1$d) { id device(id: $deviceId%1$d) { "
+			+ DEVICE_FIELDS
+			+ "} } ";
 
 	public static final String CONTROL_CLOCK_SYNC = "{\"query\":\"mutation ControlCommand($input: %s!) "
 			+ "{ %s(input: $input) "
@@ -47,10 +97,20 @@ public class DanteDirectorQuery {
 			+ "\"input\" : "
 			+ "{\"deviceId\":\"%s\", \"enabled\":%s}}}";
 
+	/**
+	 * GraphQL document (not wrapped in a request body) running a batch of clock synchronisation mutations,
+	 * to be formatted with the variable definitions and the {@link #CONTROL_CLOCK_SYNC_SELECTION} of every control
+	 */
+	public static final String CONTROL_CLOCK_SYNC_BATCH = "mutation ControlCommands(%s) { %s }";
+
+	public static final String CONTROL_CLOCK_SYNC_VARIABLES = "$input%1$d: %2$s!";
+
+	public static final String CONTROL_CLOCK_SYNC_SELECTION = "control%1$d: %2$s(input: $input%1$d) { ok } ";
+
 	public static final String CONTROL_SITE = "{\"query\":\"mutation DevicesEnroll($input: DevicesEnrollInput!) "
 			+ "{ DevicesEnroll(input: $input) "
 			+ "{ ok } }\","
 			+ "\"variables\": {"
 			+ "\"input\" : "
-			+ "{\"deviceIds\": [\"%s\"], \"domainId\":\"%s\"}}}";
+			+ "{\"deviceIds\": %s, \"domainId\":\"%s\"}}}";
 }
@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.dto.ChannelDTO;
+
+/**
+ * Entry of the device cache, indexed by device id.
+ * Holds the device mapped from the Dante Director response together with the bookkeeping needed for the delta sync
+ * and the device rendered for Symphony, which is reused by every snapshot until the entry changes.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.0
+ */
+public class DeviceCacheEntry {
+	private final AggregatedDevice device;
+	private final String domainId;
+	private final ChannelDTO[] receiveChannels;
+	private final JsonNode rawDevice;
+	private volatile Long fingerprint;
+	private volatile AggregatedDevice renderedDevice;
+	private volatile long lastUpdated;
+	private volatile long restoredSnapshotTime;
+
+	/**
+	 * Constructs a DeviceCacheEntry with the specified mapped device and fingerprint.
+	 *
+	 * @param device The device mapped from the raw device json.
+	 * @param domainId The id of the domain the device is enrolled in.
+	 * @param receiveChannels The receive channels of the device, parsed from the raw device json.
+	 * @param rawDevice The raw device json, retained only when status updates are merged into it, otherwise null.
+	 * @param fingerprint The fingerprint of the raw device json, see {@link DeviceFingerprint}.
+	 * @param lastUpdated The time the device json was received, in milliseconds.
+	 */
+	public DeviceCacheEntry(AggregatedDevice device, String domainId, ChannelDTO[] receiveChannels, JsonNode rawDevice, Long fingerprint, long lastUpdated) {
+		this.device = device;
+		this.domainId = domainId;
+		this.receiveChannels = receiveChannels;
+		this.rawDevice = rawDevice;
+		this.fingerprint = fingerprint;
+		this.lastUpdated = lastUpdated;
+	}
+
+	/**
+	 * Retrieves {@link #device}
+	 *
+	 * @return value of {@link #device}
+	 */
+	public AggregatedDevice getDevice() {
+		return device;
+	}
+
+	/**
+	 * Retrieves {@link #domainId}
+	 *
+	 * @return value of {@link #domainId}
+	 */
+	public String getDomainId() {
+		return domainId;
+	}
+
+	/**
+	 * Retrieves {@link #receiveChannels}
+	 *
+	 * @return value of {@link #receiveChannels}
+	 */
+	public ChannelDTO[] getReceiveChannels() {
+		return receiveChannels;
+	}
+
+	/**
+	 * Retrieves {@link #rawDevice}
+	 *
+	 * @return value of {@link #rawDevice}, null when the raw device json is not retained
+	 */
+	public JsonNode getRawDevice() {
+		return rawDevice;
+	}
+
+	/**
+	 * Retrieves {@link #fingerprint}
+	 *
+	 * @return value of {@link #fingerprint}
+	 */
+	public Long getFingerprint() {
+		return fingerprint;
+	}
+
+	/**
+	 * Sets {@link #fingerprint} value
+	 *
+	 * @param fingerprint new value of {@link #fingerprint}
+	 */
+	public void setFingerprint(Long fingerprint) {
+		this.fingerprint = fingerprint;
+	}
+
+	/**
+	 * Retrieves {@link #renderedDevice}
+	 *
+	 * @return value of {@link #renderedDevice}, null when the device has to be rendered again
+	 */
+	public AggregatedDevice getRenderedDevice() {
+		return renderedDevice;
+	}
+
+	/**
+	 * Sets {@link #renderedDevice} value
+	 *
+	 * @param renderedDevice new value of {@link #renderedDevice}
+	 */
+	public void setRenderedDevice(AggregatedDevice renderedDevice) {
+		this.renderedDevice = renderedDevice;
+	}
+
+	/**
+	 * Retrieves {@link #lastUpdated}
+	 *
+	 * @return value of {@link #lastUpdated}
+	 */
+	public long getLastUpdated() {
+		return lastUpdated;
+	}
+
+	/**
+	 * Sets {@link #lastUpdated} value
+	 *
+	 * @param lastUpdated new value of {@link #lastUpdated}
+	 */
+	public void setLastUpdated(long lastUpdated) {
+		this.lastUpdated = lastUpdated;
+	}
+
+	/**
+	 * Retrieves {@link #restoredSnapshotTime}
+	 *
+	 * @return value of {@link #restoredSnapshotTime}, 0 unless the entry was restored from a warm-start snapshot
+	 * and not confirmed by a collection cycle yet
+	 */
+	public long getRestoredSnapshotTime() {
+		return restoredSnapshotTime;
+	}
+
+	/**
+	 * Sets {@link #restoredSnapshotTime} value
+	 *
+	 * @param restoredSnapshotTime new value of {@link #restoredSnapshotTime}
+	 */
+	public void setRestoredSnapshotTime(long restoredSnapshotTime) {
+		this.restoredSnapshotTime = restoredSnapshotTime;
+	}
+}
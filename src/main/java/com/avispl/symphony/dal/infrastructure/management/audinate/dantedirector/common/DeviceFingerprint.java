@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Fingerprint of a raw device json, telling whether a device changed since it was last mapped.
+ * The fingerprint is the first 64 bits of the SHA-256 digest of the serialized json. {@link JsonNode#hashCode()} is not
+ * used, as it sums the hashes of the fields, so swapping the values of two boolean fields keeps the same hash.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.0
+ */
+public class DeviceFingerprint {
+	private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not supported", e);
+		}
+	});
+
+	private DeviceFingerprint() {
+	}
+
+	/**
+	 * Computes the fingerprint of a device json
+	 *
+	 * @param objectMapper the object mapper serializing the json
+	 * @param device the raw device json
+	 * @return the fingerprint, null if the json cannot be serialized, so the device is always mapped
+	 */
+	public static Long of(ObjectMapper objectMapper, JsonNode device) {
+		byte[] content;
+		try {
+			content = objectMapper.writeValueAsBytes(device);
+		} catch (JsonProcessingException e) {
+			return null;
+		}
+		byte[] digest = DIGEST.get().digest(content);
+		long fingerprint = 0;
+		for (int i = 0; i < Long.BYTES; i++) {
+			fingerprint = fingerprint << 8 | (digest[i] & 0xFF);
+		}
+		return fingerprint;
+	}
+}
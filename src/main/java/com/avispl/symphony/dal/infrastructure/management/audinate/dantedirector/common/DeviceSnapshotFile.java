@@ -0,0 +1,298 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.dto.ChannelDTO;
+
+/**
+ * Local file keeping the last device snapshot across restarts: the domains and every cached device, as mapped, so that
+ * the devices can be served as soon as the adapter starts, before the first collection cycle completes.
+ * The file is a gzip compressed binary stream. It records a signature of the model mapping the devices were mapped with;
+ * when the mapping changed, the devices are restored without their fingerprints, so the first cycle maps all of them again.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.0
+ */
+public class DeviceSnapshotFile {
+	private static final int MAGIC = 0x44445753;
+	private static final int VERSION = 2;
+
+	private final Path path;
+	private final long mappingSignature;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * DeviceSnapshotFile constructor
+	 *
+	 * @param path the path of the file
+	 * @param mappingSignature the signature of the model mapping, see {@link #resourceSignature(Class, String)}
+	 * @param objectMapper the object mapper serializing the json nodes
+	 */
+	public DeviceSnapshotFile(Path path, long mappingSignature, ObjectMapper objectMapper) {
+		this.path = path;
+		this.mappingSignature = mappingSignature;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Encodes a snapshot. The entries are read while encoding, so the caller has to hold the lock of the cache they come from.
+	 *
+	 * @param snapshotTime the time of the snapshot, in milliseconds
+	 * @param domains the domains json
+	 * @param entries the cached devices
+	 * @return the uncompressed content of the file
+	 * @throws IOException if a json node cannot be serialized
+	 */
+	public byte[] encode(long snapshotTime, List<JsonNode> domains, Collection<DeviceCacheEntry> entries) throws IOException {
+		ByteArrayOutputStream content = new ByteArrayOutputStream(Math.max(8192, entries.size() * 2048));
+		DataOutputStream output = new DataOutputStream(content);
+		output.writeInt(MAGIC);
+		output.writeInt(VERSION);
+		output.writeLong(mappingSignature);
+		output.writeLong(snapshotTime);
+		writeBytes(output, objectMapper.writeValueAsBytes(domains));
+		output.writeInt(entries.size());
+		for (DeviceCacheEntry entry : entries) {
+			AggregatedDevice device = entry.getDevice();
+			writeString(output, device.getDeviceId());
+			writeString(output, device.getDeviceName());
+			writeString(output, device.getDeviceModel());
+			writeString(output, device.getDeviceMake());
+			writeString(output, device.getSerialNumber());
+			Boolean online = device.getDeviceOnline();
+			output.writeByte(online == null ? 0 : online ? 2 : 1);
+			Map<String, String> properties = device.getProperties();
+			output.writeInt(properties == null ? -1 : properties.size());
+			if (properties != null) {
+				for (Map.Entry<String, String> property : properties.entrySet()) {
+					writeString(output, property.getKey());
+					writeString(output, property.getValue());
+				}
+			}
+			writeString(output, entry.getDomainId());
+			Long fingerprint = entry.getFingerprint();
+			output.writeBoolean(fingerprint != null);
+			output.writeLong(fingerprint == null ? 0 : fingerprint);
+			output.writeLong(entry.getLastUpdated());
+			ChannelDTO[] receiveChannels = entry.getReceiveChannels();
+			output.writeInt(receiveChannels == null ? -1 : receiveChannels.length);
+			if (receiveChannels != null) {
+				for (ChannelDTO channel : receiveChannels) {
+					writeString(output, channel.getName());
+					writeString(output, channel.getMediaType());
+					writeString(output, channel.getSubscribedChannel());
+					writeString(output, channel.getSubscribedDevice());
+				}
+			}
+			writeBytes(output, entry.getRawDevice() == null ? null : objectMapper.writeValueAsBytes(entry.getRawDevice()));
+		}
+		output.flush();
+		return content.toByteArray();
+	}
+
+	/**
+	 * Writes an encoded snapshot to the file, compressed. The file is replaced atomically, so a crash while writing keeps
+	 * the previous snapshot.
+	 *
+	 * @param content the content, as returned by {@link #encode(long, List, Collection)}
+	 * @throws IOException if the file cannot be written
+	 */
+	public void write(byte[] content) throws IOException {
+		Path parent = path.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+		try (OutputStream output = new GZIPOutputStream(Files.newOutputStream(temporaryPath), 65536)) {
+			output.write(content);
+		}
+		try {
+			Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Reads the snapshot of the file
+	 *
+	 * @return the snapshot, null when there is no file
+	 * @throws IOException if the file cannot be read or is not a snapshot
+	 */
+	public Snapshot read() throws IOException {
+		if (!Files.isRegularFile(path)) {
+			return null;
+		}
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(path), 65536)))) {
+			if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+				throw new IOException("Unsupported snapshot file " + path);
+			}
+			boolean sameMapping = input.readLong() == mappingSignature;
+			long snapshotTime = input.readLong();
+			List<JsonNode> domains = new ArrayList<>();
+			for (JsonNode domain : objectMapper.readTree(readBytes(input))) {
+				domains.add(domain);
+			}
+			int entryCount = input.readInt();
+			List<DeviceCacheEntry> entries = new ArrayList<>(entryCount);
+			for (int i = 0; i < entryCount; i++) {
+				AggregatedDevice device = new AggregatedDevice();
+				device.setDeviceId(readString(input));
+				device.setDeviceName(readString(input));
+				device.setDeviceModel(readString(input));
+				device.setDeviceMake(readString(input));
+				device.setSerialNumber(readString(input));
+				byte online = input.readByte();
+				device.setDeviceOnline(online == 0 ? null : online == 2);
+				int propertyCount = input.readInt();
+				if (propertyCount >= 0) {
+					Map<String, String> properties = new HashMap<>(propertyCount * 4 / 3 + 1);
+					for (int j = 0; j < propertyCount; j++) {
+						properties.put(readString(input), readString(input));
+					}
+					device.setProperties(properties);
+				}
+				String domainId = readString(input);
+				boolean hasFingerprint = input.readBoolean();
+				long fingerprint = input.readLong();
+				long lastUpdated = input.readLong();
+				int channelCount = input.readInt();
+				ChannelDTO[] receiveChannels = null;
+				if (channelCount >= 0) {
+					receiveChannels = new ChannelDTO[channelCount];
+					for (int j = 0; j < channelCount; j++) {
+						receiveChannels[j] = new ChannelDTO(readString(input), readString(input), readString(input), readString(input));
+					}
+				}
+				byte[] rawDevice = readBytes(input);
+				DeviceCacheEntry entry = new DeviceCacheEntry(device, domainId, receiveChannels, rawDevice == null ? null : objectMapper.readTree(rawDevice),
+						hasFingerprint && sameMapping ? fingerprint : null, lastUpdated);
+				entry.setRestoredSnapshotTime(snapshotTime);
+				entries.add(entry);
+			}
+			return new Snapshot(snapshotTime, domains, entries);
+		}
+	}
+
+	/**
+	 * Computes the signature of a resource, as the CRC32 of its content
+	 *
+	 * @param type the class loading the resource
+	 * @param resource the path of the resource
+	 * @return the signature, 0 when the resource is missing
+	 * @throws IOException if the resource cannot be read
+	 */
+	public static long resourceSignature(Class<?> type, String resource) throws IOException {
+		InputStream input = type.getClassLoader().getResourceAsStream(resource);
+		if (input == null) {
+			return 0;
+		}
+		try (InputStream resourceInput = input) {
+			CRC32 crc = new CRC32();
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = resourceInput.read(buffer)) > 0) {
+				crc.update(buffer, 0, read);
+			}
+			return crc.getValue();
+		}
+	}
+
+	private static void writeString(DataOutputStream output, String value) throws IOException {
+		writeBytes(output, value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static void writeBytes(DataOutputStream output, byte[] value) throws IOException {
+		if (value == null) {
+			output.writeInt(-1);
+		} else {
+			output.writeInt(value.length);
+			output.write(value);
+		}
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		byte[] value = readBytes(input);
+		return value == null ? null : new String(value, StandardCharsets.UTF_8);
+	}
+
+	private static byte[] readBytes(DataInputStream input) throws IOException {
+		int length = input.readInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] value = new byte[length];
+		input.readFully(value);
+		return value;
+	}
+
+	/**
+	 * Snapshot read from the file
+	 */
+	public static class Snapshot {
+		private final long snapshotTime;
+		private final List<JsonNode> domains;
+		private final List<DeviceCacheEntry> entries;
+
+		Snapshot(long snapshotTime, List<JsonNode> domains, List<DeviceCacheEntry> entries) {
+			this.snapshotTime = snapshotTime;
+			this.domains = domains;
+			this.entries = entries;
+		}
+
+		/**
+		 * Retrieves {@link #snapshotTime}
+		 *
+		 * @return value of {@link #snapshotTime}
+		 */
+		public long getSnapshotTime() {
+			return snapshotTime;
+		}
+
+		/**
+		 * Retrieves {@link #domains}
+		 *
+		 * @return value of {@link #domains}
+		 */
+		public List<JsonNode> getDomains() {
+			return domains;
+		}
+
+		/**
+		 * Retrieves {@link #entries}
+		 *
+		 * @return value of {@link #entries}
+		 */
+		public List<DeviceCacheEntry> getEntries() {
+			return entries;
+		}
+	}
+}
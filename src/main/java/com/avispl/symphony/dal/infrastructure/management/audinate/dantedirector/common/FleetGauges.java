@@ -0,0 +1,188 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Fleet level gauges of the cached devices: devices by connection state, by clocking, latency and subscriptions status,
+ * and the distribution of their frequency offsets.
+ * The gauges are maintained incrementally with every device mapped or removed by the collection cycles, so reading them
+ * never scans the devices. Only the few fields counted are kept per device, to take its previous values out of the gauges
+ * when it changes.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.0
+ */
+public class FleetGauges {
+	/**
+	 * Status categories counted, as named in the device status json
+	 */
+	private static final String[] STATUS_CATEGORIES = { "clocking", "latency", "subscriptions" };
+
+	/**
+	 * Upper bounds of the frequency offset buckets, in ppm
+	 */
+	private static final double[] FREQUENCY_OFFSET_BOUNDS = { -100, -50, -20, -10, -5, -1, 0, 1, 5, 10, 20, 50, 100 };
+
+	private static final String UNKNOWN = "UNKNOWN";
+
+	private final Map<String, DeviceState> deviceStates = new HashMap<>();
+	private final Map<String, Integer> connectionStates = new TreeMap<>();
+	private final Map<String, Map<String, Integer>> statuses = new TreeMap<>();
+	private final long[] frequencyOffsetBuckets = new long[FREQUENCY_OFFSET_BOUNDS.length + 1];
+	private double frequencyOffsetSum;
+	private long frequencyOffsetCount;
+
+	public FleetGauges() {
+		for (String category : STATUS_CATEGORIES) {
+			statuses.put(category, new TreeMap<>());
+		}
+	}
+
+	/**
+	 * Counts a new or changed device, replacing its previous values
+	 *
+	 * @param deviceId the id of the device
+	 * @param device the device json, as received from Dante Director
+	 */
+	public synchronized void updateDevice(String deviceId, JsonNode device) {
+		String[] statusValues = new String[STATUS_CATEGORIES.length];
+		JsonNode status = device.path(DanteDirectorConstant.STATUS);
+		for (int i = 0; i < STATUS_CATEGORIES.length; i++) {
+			statusValues[i] = textValue(status.path(STATUS_CATEGORIES[i]));
+		}
+		JsonNode frequencyOffset = device.path("clockingState").path("frequencyOffset");
+		DeviceState state = new DeviceState(textValue(device.path("connection").path("state")), statusValues,
+				frequencyOffset.isNumber() ? frequencyOffset.asDouble() : Double.NaN);
+		DeviceState previousState = deviceStates.put(deviceId, state);
+		if (previousState != null) {
+			count(previousState, -1);
+		}
+		count(state, 1);
+	}
+
+	/**
+	 * Removes a device from the gauges
+	 *
+	 * @param deviceId the id of the device
+	 */
+	public synchronized void removeDevice(String deviceId) {
+		DeviceState previousState = deviceStates.remove(deviceId);
+		if (previousState != null) {
+			count(previousState, -1);
+		}
+	}
+
+	/**
+	 * Removes every device from the gauges
+	 */
+	public synchronized void clear() {
+		deviceStates.clear();
+		connectionStates.clear();
+		for (Map<String, Integer> counts : statuses.values()) {
+			counts.clear();
+		}
+		for (int i = 0; i < frequencyOffsetBuckets.length; i++) {
+			frequencyOffsetBuckets[i] = 0;
+		}
+		frequencyOffsetSum = 0;
+		frequencyOffsetCount = 0;
+	}
+
+	/**
+	 * Appends the gauges in the Prometheus text exposition format
+	 *
+	 * @param builder the exposition being built
+	 */
+	public synchronized void appendPrometheus(StringBuilder builder) {
+		PrometheusFormat.appendHeader(builder, "dante_fleet_devices", "gauge", "Number of devices of the fleet.");
+		PrometheusFormat.appendSample(builder, "dante_fleet_devices", null, deviceStates.size());
+
+		PrometheusFormat.appendHeader(builder, "dante_fleet_devices_by_connection_state", "gauge", "Number of devices by connection state.");
+		for (Map.Entry<String, Integer> entry : connectionStates.entrySet()) {
+			PrometheusFormat.appendSample(builder, "dante_fleet_devices_by_connection_state", PrometheusFormat.label("state", entry.getKey()), entry.getValue());
+		}
+
+		PrometheusFormat.appendHeader(builder, "dante_fleet_devices_by_status", "gauge", "Number of devices by clocking, latency and subscriptions status.");
+		for (Map.Entry<String, Map<String, Integer>> category : statuses.entrySet()) {
+			for (Map.Entry<String, Integer> entry : category.getValue().entrySet()) {
+				PrometheusFormat.appendSample(builder, "dante_fleet_devices_by_status",
+						PrometheusFormat.label("category", category.getKey()) + "," + PrometheusFormat.label("status", entry.getKey()), entry.getValue());
+			}
+		}
+
+		// a histogram of the current fleet rather than of events, to be queried without rate()
+		PrometheusFormat.appendHeader(builder, "dante_fleet_frequency_offset_ppm", "histogram", "Distribution of the frequency offsets of the devices, in ppm.");
+		long cumulated = 0;
+		for (int i = 0; i < FREQUENCY_OFFSET_BOUNDS.length; i++) {
+			cumulated += frequencyOffsetBuckets[i];
+			PrometheusFormat.appendSample(builder, "dante_fleet_frequency_offset_ppm_bucket", PrometheusFormat.label("le", PrometheusFormat.formatValue(FREQUENCY_OFFSET_BOUNDS[i])), cumulated);
+		}
+		PrometheusFormat.appendSample(builder, "dante_fleet_frequency_offset_ppm_bucket", PrometheusFormat.label("le", "+Inf"), frequencyOffsetCount);
+		PrometheusFormat.appendSample(builder, "dante_fleet_frequency_offset_ppm_sum", null, frequencyOffsetSum);
+		PrometheusFormat.appendSample(builder, "dante_fleet_frequency_offset_ppm_count", null, frequencyOffsetCount);
+	}
+
+	/**
+	 * Adds the values of a device to the gauges, or takes them out
+	 *
+	 * @param state the counted values of the device
+	 * @param delta 1 to add the device, -1 to take it out
+	 */
+	private void count(DeviceState state, int delta) {
+		increment(connectionStates, state.connectionState, delta);
+		for (int i = 0; i < STATUS_CATEGORIES.length; i++) {
+			increment(statuses.get(STATUS_CATEGORIES[i]), state.statuses[i], delta);
+		}
+		if (!Double.isNaN(state.frequencyOffset)) {
+			frequencyOffsetBuckets[frequencyOffsetBucket(state.frequencyOffset)] += delta;
+			frequencyOffsetSum += delta * state.frequencyOffset;
+			frequencyOffsetCount += delta;
+		}
+	}
+
+	private static void increment(Map<String, Integer> counts, String key, int delta) {
+		int count = counts.getOrDefault(key, 0) + delta;
+		if (count == 0) {
+			counts.remove(key);
+		} else {
+			counts.put(key, count);
+		}
+	}
+
+	private static int frequencyOffsetBucket(double frequencyOffset) {
+		for (int i = 0; i < FREQUENCY_OFFSET_BOUNDS.length; i++) {
+			if (frequencyOffset <= FREQUENCY_OFFSET_BOUNDS[i]) {
+				return i;
+			}
+		}
+		return FREQUENCY_OFFSET_BOUNDS.length;
+	}
+
+	private static String textValue(JsonNode node) {
+		return node.isMissingNode() || node.isNull() || node.asText().isEmpty() ? UNKNOWN : node.asText();
+	}
+
+	/**
+	 * Values of a device counted by the gauges
+	 */
+	private static class DeviceState {
+		private final String connectionState;
+		private final String[] statuses;
+		private final double frequencyOffset;
+
+		DeviceState(String connectionState, String[] statuses, double frequencyOffset) {
+			this.connectionState = connectionState;
+			this.statuses = statuses;
+			this.frequencyOffset = frequencyOffset;
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Embedded HTTP endpoint exposing the {@link AdapterMetrics} and {@link FleetGauges} to Prometheus, at {@code /metrics}
+ * on the loopback interface only. Each scrape renders the current values, which are all maintained incrementally.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.0
+ */
+public class MetricsEndpoint {
+	private static final String PATH = "/metrics";
+
+	private final AdapterMetrics adapterMetrics;
+	private final FleetGauges fleetGauges;
+	private HttpServer server;
+	private ExecutorService executorService;
+
+	/**
+	 * MetricsEndpoint constructor
+	 *
+	 * @param adapterMetrics the adapter metrics to expose
+	 * @param fleetGauges the fleet gauges to expose
+	 */
+	public MetricsEndpoint(AdapterMetrics adapterMetrics, FleetGauges fleetGauges) {
+		this.adapterMetrics = adapterMetrics;
+		this.fleetGauges = fleetGauges;
+	}
+
+	/**
+	 * Starts serving the metrics
+	 *
+	 * @param port the port to listen to on the loopback interface, 0 for any free port
+	 * @throws IOException if the port cannot be bound
+	 */
+	public synchronized void start(int port) throws IOException {
+		if (server != null) {
+			return;
+		}
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+		server.createContext(PATH, this::handle);
+		executorService = Executors.newSingleThreadExecutor();
+		server.setExecutor(executorService);
+		server.start();
+	}
+
+	/**
+	 * Stops serving the metrics
+	 */
+	public synchronized void stop() {
+		if (server != null) {
+			server.stop(0);
+			server = null;
+		}
+		if (executorService != null) {
+			executorService.shutdownNow();
+			executorService = null;
+		}
+	}
+
+	/**
+	 * Retrieves the port the metrics are served on
+	 *
+	 * @return the port, -1 when not started
+	 */
+	public synchronized int getPort() {
+		return server == null ? -1 : server.getAddress().getPort();
+	}
+
+	/**
+	 * Renders the metrics in the Prometheus text exposition format
+	 *
+	 * @return the exposition
+	 */
+	public String render() {
+		StringBuilder builder = new StringBuilder(8192);
+		adapterMetrics.appendPrometheus(builder);
+		fleetGauges.appendPrometheus(builder);
+		return builder.toString();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try {
+			if (!"GET".equals(exchange.getRequestMethod()) || !PATH.equals(exchange.getRequestURI().getPath())) {
+				exchange.sendResponseHeaders(404, -1);
+				return;
+			}
+			byte[] body = render().getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().set("Content-Type", PrometheusFormat.CONTENT_TYPE);
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream outputStream = exchange.getResponseBody()) {
+				outputStream.write(body);
+			}
+		} finally {
+			exchange.close();
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Rest template interceptor recording every Dante Director request into {@link AdapterMetrics}. The latency of a request
+ * runs until its response is closed, that is until its body was read and parsed, whether the body was read into a tree
+ * or streamed, and the bytes of the body are counted as they are read. A request fails on an error HTTP status here, and
+ * on GraphQL errors once its body is parsed, see {@link AdapterMetrics#recordErrorResponse()}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.0
+ */
+public class MetricsRequestInterceptor implements ClientHttpRequestInterceptor {
+	private final AdapterMetrics adapterMetrics;
+
+	/**
+	 * MetricsRequestInterceptor constructor
+	 *
+	 * @param adapterMetrics the metrics to record the requests into
+	 */
+	public MetricsRequestInterceptor(AdapterMetrics adapterMetrics) {
+		this.adapterMetrics = adapterMetrics;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+		long startTime = System.nanoTime();
+		ClientHttpResponse response;
+		try {
+			response = execution.execute(request, body);
+		} catch (IOException | RuntimeException e) {
+			adapterMetrics.recordRequest(System.nanoTime() - startTime, false);
+			throw e;
+		}
+		return new MeteredResponse(response, startTime);
+	}
+
+	/**
+	 * Response recording its request when closed
+	 */
+	private class MeteredResponse implements ClientHttpResponse {
+		private final ClientHttpResponse response;
+		private final long startTime;
+		private InputStream body;
+		private boolean closed;
+
+		MeteredResponse(ClientHttpResponse response, long startTime) {
+			this.response = response;
+			this.startTime = startTime;
+		}
+
+		@Override
+		public HttpStatus getStatusCode() throws IOException {
+			return response.getStatusCode();
+		}
+
+		@Override
+		public int getRawStatusCode() throws IOException {
+			return response.getRawStatusCode();
+		}
+
+		@Override
+		public String getStatusText() throws IOException {
+			return response.getStatusText();
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return response.getHeaders();
+		}
+
+		@Override
+		public InputStream getBody() throws IOException {
+			if (body == null) {
+				body = new FilterInputStream(response.getBody()) {
+					@Override
+					public int read() throws IOException {
+						int value = super.read();
+						if (value >= 0) {
+							adapterMetrics.addBytesReceived(1);
+						}
+						return value;
+					}
+
+					@Override
+					public int read(byte[] buffer, int offset, int length) throws IOException {
+						int read = super.read(buffer, offset, length);
+						if (read > 0) {
+							adapterMetrics.addBytesReceived(read);
+						}
+						return read;
+					}
+				};
+			}
+			return body;
+		}
+
+		@Override
+		public void close() {
+			if (!closed) {
+				closed = true;
+				boolean succeeded;
+				try {
+					succeeded = response.getRawStatusCode() < HttpStatus.BAD_REQUEST.value();
+				} catch (IOException e) {
+					succeeded = false;
+				}
+				adapterMetrics.recordRequest(System.nanoTime() - startTime, succeeded);
+			}
+			response.close();
+		}
+	}
+}
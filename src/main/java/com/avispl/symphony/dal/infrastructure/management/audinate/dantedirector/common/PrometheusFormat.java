@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common;
+
+/**
+ * Helpers writing metrics in the Prometheus text exposition format, version 0.0.4.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.0
+ */
+public class PrometheusFormat {
+	public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+	private PrometheusFormat() {
+	}
+
+	/**
+	 * Appends the HELP and TYPE lines of a metric
+	 *
+	 * @param builder the exposition being built
+	 * @param name the name of the metric
+	 * @param type the type of the metric
+	 * @param help the description of the metric
+	 */
+	public static void appendHeader(StringBuilder builder, String name, String type, String help) {
+		builder.append("# HELP ").append(name).append(' ').append(help).append('\n');
+		builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+	}
+
+	/**
+	 * Appends a sample of a metric
+	 *
+	 * @param builder the exposition being built
+	 * @param name the name of the sample
+	 * @param labels the labels of the sample, as built by {@link #label(String, String)}, null for none
+	 * @param value the value of the sample
+	 */
+	public static void appendSample(StringBuilder builder, String name, String labels, double value) {
+		builder.append(name);
+		if (labels != null) {
+			builder.append('{').append(labels).append('}');
+		}
+		builder.append(' ').append(formatValue(value)).append('\n');
+	}
+
+	/**
+	 * Builds a label of a sample, escaping its value
+	 *
+	 * @param name the name of the label
+	 * @param value the value of the label
+	 * @return the label
+	 */
+	public static String label(String name, String value) {
+		return name + "=\"" + value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n") + "\"";
+	}
+
+	/**
+	 * Formats a sample value, without decimals when it is integral
+	 *
+	 * @param value the value
+	 * @return the formatted value
+	 */
+	public static String formatValue(double value) {
+		if (value == Math.rint(value) && !Double.isInfinite(value) && Math.abs(value) < 1e15) {
+			return String.valueOf((long) value);
+		}
+		return String.valueOf(value);
+	}
+}
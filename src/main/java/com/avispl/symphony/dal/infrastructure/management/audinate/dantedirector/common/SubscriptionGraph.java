@@ -0,0 +1,313 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.dto.ChannelDTO;
+import com.avispl.symphony.dal.util.StringUtils;
+
+/**
+ * Directed graph of the channel subscriptions across the fleet.
+ * Receivers are keyed by device id. Subscriptions reference transmitters by device name, which is only unique within a
+ * domain, so a transmitter is resolved by the domain of its receiver and its name. The graph is indexed both by receiver
+ * and by transmitter, and is updated incrementally with the devices that changed during a collection cycle; every update
+ * reports the ids of the devices whose subscription statistics changed.
+ * A subscription is considered broken when its transmitter is not a known device of the domain of the receiver.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.0
+ */
+public class SubscriptionGraph {
+	/**
+	 * Domain and name each known device is registered under, by device id
+	 */
+	private final Map<String, DeviceKey> deviceKeys = new HashMap<>();
+
+	/**
+	 * Ids of the known devices, by domain and name
+	 */
+	private final Map<DeviceKey, Set<String>> deviceIdsByKey = new HashMap<>();
+
+	/**
+	 * Number of subscribed channels, by receiver device id then transmitter device name
+	 */
+	private final Map<String, Map<String, Integer>> subscriptionsByReceiver = new HashMap<>();
+
+	/**
+	 * Number of subscribed channels, by transmitter domain and name then receiver device id
+	 */
+	private final Map<DeviceKey, Map<String, Integer>> subscriptionsByTransmitter = new HashMap<>();
+
+	/**
+	 * Number of subscribed channels whose transmitter is not a known device, across the fleet
+	 */
+	private int brokenSubscriptions;
+
+	/**
+	 * Registers a new or changed device and replaces its subscriptions with the ones of its receive channels.
+	 * A device renamed or moved to another domain is unregistered from its previous name first.
+	 *
+	 * @param deviceId The id of the device.
+	 * @param domainId The id of the domain the device is enrolled in.
+	 * @param name The name of the device.
+	 * @param receiveChannels The receive channels of the device.
+	 * @return ids of the devices whose subscription statistics changed.
+	 */
+	public synchronized Set<String> updateDevice(String deviceId, String domainId, String name, ChannelDTO[] receiveChannels) {
+		Set<String> affectedDeviceIds = new HashSet<>();
+		DeviceKey key = new DeviceKey(domainId, name);
+		if (!key.equals(deviceKeys.get(deviceId))) {
+			affectedDeviceIds.addAll(removeDevice(deviceId));
+			Set<String> deviceIds = deviceIdsByKey.computeIfAbsent(key, k -> new HashSet<>());
+			if (deviceIds.isEmpty()) {
+				Map<String, Integer> receivers = subscriptionsByTransmitter.get(key);
+				brokenSubscriptions -= countSubscriptions(receivers);
+				collectReceiverIds(receivers, affectedDeviceIds);
+			}
+			deviceIds.add(deviceId);
+			deviceKeys.put(deviceId, key);
+			affectedDeviceIds.add(deviceId);
+		}
+		affectedDeviceIds.addAll(updateReceiver(deviceId, key.domainId, receiveChannels));
+		return affectedDeviceIds;
+	}
+
+	/**
+	 * Unregisters a device, dropping its own subscriptions. Subscriptions of other devices to it become broken.
+	 *
+	 * @param deviceId The id of the device.
+	 * @return ids of the devices whose subscription statistics changed.
+	 */
+	public synchronized Set<String> removeDevice(String deviceId) {
+		DeviceKey key = deviceKeys.get(deviceId);
+		if (key == null) {
+			return new HashSet<>();
+		}
+		// own subscriptions are dropped while the device is still known, so a subscription to itself is not counted as broken
+		Set<String> affectedDeviceIds = new HashSet<>(updateReceiver(deviceId, key.domainId, new ChannelDTO[0]));
+		deviceKeys.remove(deviceId);
+		Set<String> deviceIds = deviceIdsByKey.get(key);
+		deviceIds.remove(deviceId);
+		if (deviceIds.isEmpty()) {
+			deviceIdsByKey.remove(key);
+			Map<String, Integer> receivers = subscriptionsByTransmitter.get(key);
+			brokenSubscriptions += countSubscriptions(receivers);
+			collectReceiverIds(receivers, affectedDeviceIds);
+		}
+		affectedDeviceIds.remove(deviceId);
+		return affectedDeviceIds;
+	}
+
+	/**
+	 * Retrieves the number of distinct receivers subscribed to a transmitter.
+	 *
+	 * @param deviceId The id of the transmitter device.
+	 * @return number of subscribed receivers.
+	 */
+	public synchronized int getSubscriberCount(String deviceId) {
+		DeviceKey key = deviceKeys.get(deviceId);
+		Map<String, Integer> receivers = key == null ? null : subscriptionsByTransmitter.get(key);
+		return receivers == null ? 0 : receivers.size();
+	}
+
+	/**
+	 * Retrieves the number of receive channels, across the fleet, subscribed to a transmitter.
+	 *
+	 * @param deviceId The id of the transmitter device.
+	 * @return number of subscribed channels.
+	 */
+	public synchronized int getTransmitFanOut(String deviceId) {
+		DeviceKey key = deviceKeys.get(deviceId);
+		return key == null ? 0 : countSubscriptions(subscriptionsByTransmitter.get(key));
+	}
+
+	/**
+	 * Retrieves the number of receive channels of a receiver subscribed to an unknown transmitter.
+	 *
+	 * @param deviceId The id of the receiver device.
+	 * @return number of broken subscriptions of the receiver.
+	 */
+	public synchronized int getBrokenSubscriptions(String deviceId) {
+		DeviceKey key = deviceKeys.get(deviceId);
+		Map<String, Integer> transmitters = subscriptionsByReceiver.get(deviceId);
+		if (key == null || transmitters == null) {
+			return 0;
+		}
+		int broken = 0;
+		for (Map.Entry<String, Integer> transmitter : transmitters.entrySet()) {
+			if (!deviceIdsByKey.containsKey(new DeviceKey(key.domainId, transmitter.getKey()))) {
+				broken += transmitter.getValue();
+			}
+		}
+		return broken;
+	}
+
+	/**
+	 * Retrieves {@link #brokenSubscriptions}
+	 *
+	 * @return value of {@link #brokenSubscriptions}
+	 */
+	public synchronized int getBrokenSubscriptions() {
+		return brokenSubscriptions;
+	}
+
+	/**
+	 * Removes every device and subscription.
+	 */
+	public synchronized void clear() {
+		deviceKeys.clear();
+		deviceIdsByKey.clear();
+		subscriptionsByReceiver.clear();
+		subscriptionsByTransmitter.clear();
+		brokenSubscriptions = 0;
+	}
+
+	/**
+	 * Replaces the subscriptions of a receiver with the ones of its receive channels.
+	 *
+	 * @param receiverId The id of the receiver device.
+	 * @param domainId The id of the domain the receiver is enrolled in, which its transmitters are resolved in.
+	 * @param receiveChannels The receive channels of the device.
+	 * @return ids of the devices whose subscription statistics changed.
+	 */
+	private Set<String> updateReceiver(String receiverId, String domainId, ChannelDTO[] receiveChannels) {
+		Map<String, Integer> subscriptions = new HashMap<>();
+		for (ChannelDTO channel : receiveChannels) {
+			if (StringUtils.isNotNullOrEmpty(channel.getSubscribedChannel()) && StringUtils.isNotNullOrEmpty(channel.getSubscribedDevice())) {
+				subscriptions.merge(channel.getSubscribedDevice(), 1, Integer::sum);
+			}
+		}
+		Map<String, Integer> previousSubscriptions = subscriptionsByReceiver.get(receiverId);
+		if (previousSubscriptions == null) {
+			previousSubscriptions = Collections.emptyMap();
+		}
+		if (subscriptions.equals(previousSubscriptions)) {
+			return Collections.emptySet();
+		}
+
+		Set<String> affectedDeviceIds = new HashSet<>();
+		affectedDeviceIds.add(receiverId);
+		for (Map.Entry<String, Integer> previous : previousSubscriptions.entrySet()) {
+			if (!previous.getValue().equals(subscriptions.get(previous.getKey()))) {
+				DeviceKey transmitterKey = new DeviceKey(domainId, previous.getKey());
+				updateTransmitter(transmitterKey, receiverId, -previous.getValue());
+				affectedDeviceIds.addAll(getDeviceIds(transmitterKey));
+			}
+		}
+		for (Map.Entry<String, Integer> current : subscriptions.entrySet()) {
+			if (!current.getValue().equals(previousSubscriptions.get(current.getKey()))) {
+				DeviceKey transmitterKey = new DeviceKey(domainId, current.getKey());
+				updateTransmitter(transmitterKey, receiverId, current.getValue());
+				affectedDeviceIds.addAll(getDeviceIds(transmitterKey));
+			}
+		}
+		if (subscriptions.isEmpty()) {
+			subscriptionsByReceiver.remove(receiverId);
+		} else {
+			subscriptionsByReceiver.put(receiverId, subscriptions);
+		}
+		return affectedDeviceIds;
+	}
+
+	/**
+	 * Adds or removes subscribed channels of a receiver to the transmitter index, keeping the broken subscriptions count.
+	 *
+	 * @param transmitterKey The domain and name of the transmitter device.
+	 * @param receiverId The id of the receiver device.
+	 * @param delta The number of subscribed channels to add, negative to remove.
+	 */
+	private void updateTransmitter(DeviceKey transmitterKey, String receiverId, int delta) {
+		Map<String, Integer> receivers = subscriptionsByTransmitter.computeIfAbsent(transmitterKey, key -> new HashMap<>());
+		int count = receivers.getOrDefault(receiverId, 0) + delta;
+		if (count > 0) {
+			receivers.put(receiverId, count);
+		} else {
+			receivers.remove(receiverId);
+		}
+		if (receivers.isEmpty()) {
+			subscriptionsByTransmitter.remove(transmitterKey);
+		}
+		if (!deviceIdsByKey.containsKey(transmitterKey)) {
+			brokenSubscriptions += delta;
+		}
+	}
+
+	/**
+	 * Retrieves the ids of the known devices with the given domain and name.
+	 *
+	 * @param key The domain and name of the device.
+	 * @return set of device ids, empty if the device is unknown.
+	 */
+	private Set<String> getDeviceIds(DeviceKey key) {
+		Set<String> deviceIds = deviceIdsByKey.get(key);
+		return deviceIds == null ? Collections.emptySet() : deviceIds;
+	}
+
+	/**
+	 * Collects the receiver ids of the given subscriptions.
+	 *
+	 * @param receivers The subscriptions of a transmitter, keyed by receiver device id, may be null.
+	 * @param deviceIds The set to collect the device ids into.
+	 */
+	private void collectReceiverIds(Map<String, Integer> receivers, Set<String> deviceIds) {
+		if (receivers != null) {
+			deviceIds.addAll(receivers.keySet());
+		}
+	}
+
+	/**
+	 * Sums the subscribed channels of the given subscriptions.
+	 *
+	 * @param subscriptions The subscriptions, may be null.
+	 * @return total number of subscribed channels.
+	 */
+	private int countSubscriptions(Map<String, Integer> subscriptions) {
+		if (subscriptions == null) {
+			return 0;
+		}
+		int count = 0;
+		for (Integer value : subscriptions.values()) {
+			count += value;
+		}
+		return count;
+	}
+
+	/**
+	 * Domain and name of a device, which identify a transmitter within the subscriptions of the domain
+	 */
+	private static class DeviceKey {
+		private final String domainId;
+		private final String name;
+
+		DeviceKey(String domainId, String name) {
+			this.domainId = domainId;
+			this.name = name;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof DeviceKey)) {
+				return false;
+			}
+			DeviceKey other = (DeviceKey) o;
+			return Objects.equals(domainId, other.domainId) && Objects.equals(name, other.name);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(domainId, name);
+		}
+	}
+}
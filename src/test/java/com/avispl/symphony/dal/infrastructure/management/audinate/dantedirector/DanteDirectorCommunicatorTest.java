@@ -55,7 +55,7 @@ public class DanteDirectorCommunicatorTest {
 		extendedStatistic = (ExtendedStatistics) danteDirectorCommunicator.getMultipleStatistics().get(0);
 		Map<String, String> statistics = extendedStatistic.getStatistics();
 		List<AdvancedControllableProperty> advancedControllableProperties = extendedStatistic.getControllableProperties();
-		Assert.assertEquals(6, statistics.size());
+		Assert.assertEquals(20, statistics.size());
 		Assert.assertEquals(1, advancedControllableProperties.size());
 	}
 
@@ -0,0 +1,255 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+
+/**
+ * Concurrency tests of the control path, run against a communicator whose Dante Director responses are mocked.
+ * Every mutation takes {@link #CONTROL_DELAY} milliseconds, or is held until released by the test, so overlapping
+ * mutations can be observed without relying on elapsed time.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class DanteDirectorControlConcurrencyTest {
+	private static final long CONTROL_DELAY = 500;
+	private static final String[] DEVICE_IDS = { "d1", "d2", "d3", "d4" };
+	private static final Pattern DEVICE_ID_PATTERN = Pattern.compile("\"deviceId\":\"(\\w+)\"");
+	private static final Pattern ENABLED_PATTERN = Pattern.compile("\"enabled\":(true|false)");
+
+	private MockDanteDirectorCommunicator danteDirectorCommunicator;
+	private ExecutorService executorService;
+
+	/**
+	 * Communicator answering every request with a canned response, and recording the mutations in progress.
+	 */
+	static class MockDanteDirectorCommunicator extends DanteDirectorCommunicator {
+		private final ObjectMapper mapper = new ObjectMapper();
+		private final AtomicInteger runningControls = new AtomicInteger();
+		private final AtomicInteger maxRunningControls = new AtomicInteger();
+		private final Map<String, AtomicInteger> runningControlsByDevice = new ConcurrentHashMap<>();
+		private final AtomicInteger maxRunningControlsByDevice = new AtomicInteger();
+		private final AtomicInteger controlRequests = new AtomicInteger();
+		private final Map<String, String> preferredLeaders = new ConcurrentHashMap<>();
+		private volatile CountDownLatch controlStarted = new CountDownLatch(1);
+		private volatile CountDownLatch controlReleased;
+
+		MockDanteDirectorCommunicator() throws Exception {
+			super();
+		}
+
+		/**
+		 * Checks whether controls are still queued, the queue being private to the communicator
+		 *
+		 * @return true if a queued control was not sent yet; false otherwise
+		 */
+		@SuppressWarnings("unchecked")
+		boolean hasPendingControls() throws Exception {
+			Field field = DanteDirectorCommunicator.class.getDeclaredField("pendingControls");
+			field.setAccessible(true);
+			return !((Map<String, ?>) field.get(this)).isEmpty();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		protected <Request, Response> Response doPost(String uri, Request data, Class<Response> responseClass) throws Exception {
+			String body = String.valueOf(data);
+			String response;
+			if (body.contains("query Domains")) {
+				response = domains();
+			} else if (body.contains("query Devices")) {
+				response = devices();
+			} else {
+				Matcher matcher = DEVICE_ID_PATTERN.matcher(body.replace(" ", ""));
+				String deviceId = matcher.find() ? matcher.group(1) : "";
+				Matcher enabledMatcher = ENABLED_PATTERN.matcher(body.replace(" ", ""));
+				controlRequests.incrementAndGet();
+				AtomicInteger deviceControls = runningControlsByDevice.computeIfAbsent(deviceId, key -> new AtomicInteger());
+				maxRunningControls.accumulateAndGet(runningControls.incrementAndGet(), Math::max);
+				maxRunningControlsByDevice.accumulateAndGet(deviceControls.incrementAndGet(), Math::max);
+				controlStarted.countDown();
+				try {
+					CountDownLatch released = controlReleased;
+					if (released == null) {
+						Thread.sleep(CONTROL_DELAY);
+					} else {
+						released.await(10, TimeUnit.SECONDS);
+					}
+					preferredLeaders.put(deviceId, enabledMatcher.find() ? enabledMatcher.group(1) : "false");
+				} finally {
+					deviceControls.decrementAndGet();
+					runningControls.decrementAndGet();
+				}
+				response = "{\"data\":{\"control\":{\"ok\":true}}}";
+			}
+			return (Response) mapper.readTree(response);
+		}
+
+		private static String domains() {
+			StringBuilder devices = new StringBuilder();
+			for (String deviceId : DEVICE_IDS) {
+				devices.append(devices.length() > 0 ? "," : "").append("{\"id\":\"").append(deviceId).append("\"}");
+			}
+			return "{\"data\":{\"domains\":[{\"name\":\"Site A\",\"id\":\"s1\",\"devices\":[" + devices + "],"
+					+ "\"status\":{\"clocking\":\"OK\",\"connectivity\":\"OK\",\"latency\":\"OK\",\"subscriptions\":\"OK\",\"domainAlertMessage\":{}}}]}}";
+		}
+
+		private String devices() {
+			StringBuilder devices = new StringBuilder();
+			for (String deviceId : DEVICE_IDS) {
+				devices.append(devices.length() > 0 ? "," : "")
+						.append("{\"id\":\"").append(deviceId).append("\",\"name\":\"Device ").append(deviceId).append("\",\"domain\":{\"name\":\"Site A\"},")
+						.append("\"connection\":{\"state\":\"READY\",\"lastChanged\":\"2024-03-13T02:28:10.123Z\"},")
+						.append("\"interfaces\":[{\"address\":\"10.0.0.1\",\"subnet\":\"10.0.0.0\",\"netmask\":24}],")
+						.append("\"capabilities\":{\"CAN_WRITE_PREFERRED_MASTER\":true},")
+						.append("\"clockPreferences\":{\"leader\":").append(preferredLeaders.getOrDefault(deviceId, "false")).append("},\"rxChannels\":[]}");
+			}
+			return "{\"data\":{\"domains\":[{\"id\":\"s1\",\"name\":\"Site A\",\"devices\":[" + devices + "]}]}}";
+		}
+	}
+
+	@BeforeEach
+	void setUp() throws Exception {
+		danteDirectorCommunicator = new MockDanteDirectorCommunicator();
+		danteDirectorCommunicator.setHost("127.0.0.1");
+		danteDirectorCommunicator.setPassword("");
+		danteDirectorCommunicator.setDeviceCollectionInterval(1000);
+		danteDirectorCommunicator.init();
+		danteDirectorCommunicator.getMultipleStatistics();
+		long deadline = System.currentTimeMillis() + 10000;
+		while (danteDirectorCommunicator.retrieveMultipleStatistics().size() < DEVICE_IDS.length && System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+		}
+		Assert.assertEquals(DEVICE_IDS.length, danteDirectorCommunicator.retrieveMultipleStatistics().size());
+		executorService = Executors.newCachedThreadPool();
+	}
+
+	@AfterEach
+	void destroy() throws Exception {
+		executorService.shutdownNow();
+		danteDirectorCommunicator.destroy();
+	}
+
+	/**
+	 * Controls of different devices run in parallel.
+	 */
+	@Test
+	void testControlsOfDifferentDevicesOverlap() throws Exception {
+		CountDownLatch controlStarted = new CountDownLatch(DEVICE_IDS.length);
+		CountDownLatch controlReleased = new CountDownLatch(1);
+		danteDirectorCommunicator.controlStarted = controlStarted;
+		danteDirectorCommunicator.controlReleased = controlReleased;
+		List<Future<?>> futures = new ArrayList<>();
+		for (String deviceId : DEVICE_IDS) {
+			futures.add(executorService.submit(() -> controlPreferredLeader(deviceId)));
+		}
+		// every mutation is held until released, so they can only all start if they run in parallel
+		Assert.assertTrue(controlStarted.await(10, TimeUnit.SECONDS));
+		controlReleased.countDown();
+		for (Future<?> future : futures) {
+			future.get(10, TimeUnit.SECONDS);
+		}
+		Assert.assertEquals(DEVICE_IDS.length, danteDirectorCommunicator.maxRunningControls.get());
+	}
+
+	/**
+	 * Controls of the same device are serialized.
+	 */
+	@Test
+	void testControlsOfSameDeviceAreSerialized() throws Exception {
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			futures.add(executorService.submit(() -> controlPreferredLeader(DEVICE_IDS[0])));
+		}
+		for (Future<?> future : futures) {
+			future.get(10, TimeUnit.SECONDS);
+		}
+		Assert.assertEquals(1, danteDirectorCommunicator.maxRunningControlsByDevice.get());
+	}
+
+	/**
+	 * Aggregator statistics are retrieved while a device control is in progress.
+	 */
+	@Test
+	void testStatisticsAreNotBlockedByControls() throws Exception {
+		CountDownLatch controlReleased = new CountDownLatch(1);
+		danteDirectorCommunicator.controlReleased = controlReleased;
+		Future<?> future = executorService.submit(() -> controlPreferredLeader(DEVICE_IDS[0]));
+		Assert.assertTrue(danteDirectorCommunicator.controlStarted.await(5, TimeUnit.SECONDS));
+		ExtendedStatistics statistics = (ExtendedStatistics) danteDirectorCommunicator.getMultipleStatistics().get(0);
+		// the mutation is held until released, so statistics blocked by the control would only return once it completed
+		Assert.assertEquals(1, danteDirectorCommunicator.runningControls.get());
+		Assert.assertEquals("OK", statistics.getStatistics().get("Clocking"));
+		controlReleased.countDown();
+		future.get(10, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Queued controls of the same device property are coalesced to the last value.
+	 */
+	@Test
+	void testAsyncControlsAreCoalesced() throws Exception {
+		CountDownLatch controlReleased = new CountDownLatch(1);
+		danteDirectorCommunicator.controlReleased = controlReleased;
+		danteDirectorCommunicator.setAsyncControl(true);
+		for (int i = 0; i < 10; i++) {
+			controlPreferredLeader(DEVICE_IDS[0], String.valueOf(i % 2));
+		}
+		Assert.assertEquals("1", danteDirectorCommunicator.retrieveMultipleStatistics(Collections.singletonList(DEVICE_IDS[0])).get(0)
+				.getProperties().get("ClockSynchronisation#PreferredLeader"));
+		controlReleased.countDown();
+		// a control stays queued until it is sent, so no request is sent once the queue is empty
+		long deadline = System.currentTimeMillis() + 10000;
+		while (danteDirectorCommunicator.hasPendingControls() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+		}
+		Assert.assertFalse(danteDirectorCommunicator.hasPendingControls());
+		// the first value may be sent before the next ones are queued, every later value is coalesced
+		Assert.assertTrue(danteDirectorCommunicator.controlRequests.get() <= 2);
+		Assert.assertEquals("true", danteDirectorCommunicator.preferredLeaders.get(DEVICE_IDS[0]));
+		Assert.assertEquals("1", danteDirectorCommunicator.retrieveMultipleStatistics(Collections.singletonList(DEVICE_IDS[0])).get(0)
+				.getProperties().get("ClockSynchronisation#PreferredLeader"));
+	}
+
+	private Void controlPreferredLeader(String deviceId) throws Exception {
+		return controlPreferredLeader(deviceId, "1");
+	}
+
+	private Void controlPreferredLeader(String deviceId, String value) throws Exception {
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setDeviceId(deviceId);
+		controllableProperty.setProperty("ClockSynchronisation#PreferredLeader");
+		controllableProperty.setValue(value);
+		danteDirectorCommunicator.controlProperty(controllableProperty);
+		return null;
+	}
+}
@@ -0,0 +1,249 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+
+/**
+ * Load test of the communicator against a {@link FakeDanteDirectorServer}: init, collection of the whole fleet, polling,
+ * a burst of concurrent controls and destroy, reporting the latency percentiles of every phase and the heap usage.
+ * Not part of the default build, run with {@code mvn test -Dtest.groups=Load}. The fleet and the server are configured
+ * with the system properties {@code load.devices}, {@code load.domains}, {@code load.seed}, {@code load.latency},
+ * {@code load.errorRate}, {@code load.controls} and {@code load.controlThreads}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.0
+ */
+@Tag("Load")
+public class DanteDirectorLoadTest {
+	private static final int DEVICE_COUNT = Integer.getInteger("load.devices", 2000);
+	private static final int DOMAIN_COUNT = Integer.getInteger("load.domains", 10);
+	private static final long SEED = Long.getLong("load.seed", 42);
+	private static final long LATENCY = Long.getLong("load.latency", 50);
+	private static final double ERROR_RATE = Double.parseDouble(System.getProperty("load.errorRate", "0"));
+	private static final int CONTROL_COUNT = Integer.getInteger("load.controls", 200);
+	private static final int CONTROL_THREADS = Integer.getInteger("load.controlThreads", 16);
+	private static final int POLL_COUNT = 50;
+	private static final long COLLECTION_TIMEOUT = TimeUnit.MINUTES.toMillis(5);
+	private static final String[] CONTROLLED_PROPERTIES = { "ClockSynchronisation#PreferredLeader", "ClockSynchronisation#UnicastClocking" };
+
+	private FakeDanteDirectorServer server;
+	private DanteDirectorCommunicator danteDirectorCommunicator;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		server = new FakeDanteDirectorServer(new FleetGenerator(SEED, DEVICE_COUNT, DOMAIN_COUNT).devicesInfo(), 8);
+		server.setLatency(LATENCY);
+		server.setErrorRate(ERROR_RATE);
+		server.start();
+		danteDirectorCommunicator = new DanteDirectorCommunicator();
+		danteDirectorCommunicator.setHost("127.0.0.1");
+		danteDirectorCommunicator.setPort(server.getPort());
+		danteDirectorCommunicator.setProtocol("http");
+		danteDirectorCommunicator.setPassword("api-key");
+		try (ServerSocket socket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress())) {
+			danteDirectorCommunicator.setMetricsPort(socket.getLocalPort());
+		}
+	}
+
+	@AfterEach
+	void destroy() {
+		server.stop();
+	}
+
+	/**
+	 * Drives the communicator through its whole lifecycle and reports the latencies and heap usage of every phase.
+	 */
+	@Test
+	void testLifecycleUnderLoad() throws Exception {
+		long heapBefore = usedHeap();
+		LatencyRecorder init = new LatencyRecorder("init");
+		LatencyRecorder aggregatorStatistics = new LatencyRecorder("getMultipleStatistics");
+		LatencyRecorder deviceStatistics = new LatencyRecorder("retrieveMultipleStatistics");
+		LatencyRecorder controls = new LatencyRecorder("controlProperty");
+		LatencyRecorder destroy = new LatencyRecorder("destroy");
+
+		long start = System.nanoTime();
+		danteDirectorCommunicator.init();
+		init.record(start);
+
+		// the domains the devices are collected for are retrieved with the aggregator statistics
+		start = System.nanoTime();
+		danteDirectorCommunicator.getMultipleStatistics();
+		aggregatorStatistics.record(start);
+		List<AggregatedDevice> devices = danteDirectorCommunicator.retrieveMultipleStatistics();
+		long deadline = System.currentTimeMillis() + COLLECTION_TIMEOUT;
+		while (devices.size() < DEVICE_COUNT && System.currentTimeMillis() < deadline) {
+			TimeUnit.MILLISECONDS.sleep(20);
+			devices = danteDirectorCommunicator.retrieveMultipleStatistics();
+		}
+		long collectionTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		Assert.assertEquals(DEVICE_COUNT, devices.size());
+		long heapCollected = usedHeap();
+		String exposition = scrapeMetrics();
+		Assert.assertTrue(exposition.contains("dante_fleet_devices " + DEVICE_COUNT + "\n"));
+
+		for (int i = 0; i < POLL_COUNT; i++) {
+			start = System.nanoTime();
+			danteDirectorCommunicator.getMultipleStatistics();
+			aggregatorStatistics.record(start);
+			start = System.nanoTime();
+			danteDirectorCommunicator.retrieveMultipleStatistics();
+			deviceStatistics.record(start);
+		}
+
+		Map<String, String> adapterMetrics = new TreeMap<>();
+		AtomicInteger failedControls = new AtomicInteger();
+		ExecutorService executorService = Executors.newFixedThreadPool(CONTROL_THREADS);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < CONTROL_COUNT; i++) {
+			ControllableProperty controllableProperty = new ControllableProperty();
+			controllableProperty.setDeviceId("device-" + i % DEVICE_COUNT);
+			controllableProperty.setProperty(CONTROLLED_PROPERTIES[i / DEVICE_COUNT % CONTROLLED_PROPERTIES.length]);
+			controllableProperty.setValue("1");
+			futures.add(executorService.submit(() -> {
+				long controlStart = System.nanoTime();
+				try {
+					danteDirectorCommunicator.controlProperty(controllableProperty);
+				} catch (Exception e) {
+					failedControls.incrementAndGet();
+				}
+				controls.record(controlStart);
+			}));
+		}
+		long burstStart = System.nanoTime();
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		long burstTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - burstStart);
+		executorService.shutdown();
+		long heapControlled = usedHeap();
+		for (Map.Entry<String, String> statistic : ((ExtendedStatistics) danteDirectorCommunicator.getMultipleStatistics().get(0)).getStatistics().entrySet()) {
+			if (statistic.getKey().startsWith("AdapterMetrics#")) {
+				adapterMetrics.put(statistic.getKey(), statistic.getValue());
+			}
+		}
+
+		start = System.nanoTime();
+		danteDirectorCommunicator.destroy();
+		destroy.record(start);
+
+		System.out.println(String.format("Fleet: %s devices in %s domains, seed %s, latency %s ms, error rate %s", DEVICE_COUNT, DOMAIN_COUNT, SEED, LATENCY, ERROR_RATE));
+		System.out.println(String.format("Whole fleet collected in %s ms", collectionTime));
+		for (LatencyRecorder recorder : new LatencyRecorder[] { init, aggregatorStatistics, deviceStatistics, controls, destroy }) {
+			System.out.println(recorder.summary());
+		}
+		System.out.println(String.format("Control burst of %s controls on %s threads took %s ms, %s failed", CONTROL_COUNT, CONTROL_THREADS, burstTime, failedControls.get()));
+		System.out.println(String.format("Used heap: %s MB before, %s MB once collected, %s MB after the controls",
+				heapBefore >> 20, heapCollected >> 20, heapControlled >> 20));
+		System.out.println(String.format("Requests: %s, %s MB sent", server.getRequestCounts(), server.getBytesSent() >> 20));
+		System.out.println(String.format("Adapter metrics: %s", adapterMetrics));
+		for (String line : exposition.split("\n")) {
+			if (line.startsWith("dante_fleet_devices")) {
+				System.out.println(line);
+			}
+		}
+
+		if (ERROR_RATE == 0) {
+			Assert.assertEquals(0, failedControls.get());
+			Assert.assertEquals(Boolean.TRUE, server.getClockPreference("device-0", "leader"));
+		}
+	}
+
+	/**
+	 * Scrapes the Prometheus metrics endpoint of the communicator.
+	 *
+	 * @return the metrics exposition
+	 */
+	private String scrapeMetrics() throws Exception {
+		HttpURLConnection connection = (HttpURLConnection) new URL("http://127.0.0.1:" + danteDirectorCommunicator.getMetricsPort() + "/metrics").openConnection();
+		try (InputStream inputStream = connection.getInputStream()) {
+			Assert.assertEquals(200, connection.getResponseCode());
+			ByteArrayOutputStream body = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = inputStream.read(buffer)) > 0) {
+				body.write(buffer, 0, read);
+			}
+			return new String(body.toByteArray(), StandardCharsets.UTF_8);
+		} finally {
+			connection.disconnect();
+		}
+	}
+
+	/**
+	 * Retrieves the used heap, after a garbage collection.
+	 *
+	 * @return used heap, in bytes
+	 */
+	private long usedHeap() {
+		MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+		memoryMXBean.gc();
+		return memoryMXBean.getHeapMemoryUsage().getUsed();
+	}
+
+	/**
+	 * Records the latencies of a phase and summarizes their percentiles.
+	 */
+	static class LatencyRecorder {
+		private final String name;
+		private final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+
+		LatencyRecorder(String name) {
+			this.name = name;
+		}
+
+		void record(long startNanos) {
+			latencies.add(System.nanoTime() - startNanos);
+		}
+
+		String summary() {
+			List<Long> sorted;
+			synchronized (latencies) {
+				sorted = new ArrayList<>(latencies);
+			}
+			Collections.sort(sorted);
+			if (sorted.isEmpty()) {
+				return name + ": no samples";
+			}
+			return String.format("%s: %s samples, p50 %.2f ms, p95 %.2f ms, p99 %.2f ms, max %.2f ms", name, sorted.size(), percentile(sorted, 50), percentile(sorted, 95),
+					percentile(sorted, 99), sorted.get(sorted.size() - 1) / 1e6);
+		}
+
+		private static double percentile(List<Long> sorted, int percentile) {
+			int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+			return sorted.get(Math.max(0, index)) / 1e6;
+		}
+	}
+}
@@ -0,0 +1,354 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Embeddable stand-in of the Dante Director GraphQL endpoint, bound to the loopback interface.
+ * It serves the queries and mutations of the communicator out of an in-memory fleet, initialized from a Devices response:
+ * device and status queries reflect the clock synchronisation and enrolment mutations received so far.
+ * The latency of every request and the ratio of requests failing with an HTTP error can be configured.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.0
+ */
+public class FakeDanteDirectorServer {
+	private static final Pattern OPERATION_PATTERN = Pattern.compile("^\\s*(query|mutation)\\s+(\\w+)");
+	private static final Pattern CONTROL_PATTERN = Pattern.compile("\\{\\s*(\\w+)\\(input: \\$input\\)");
+	private static final Pattern BATCH_CONTROL_PATTERN = Pattern.compile("(control\\d+): (\\w+)\\(input: \\$(input\\d+)\\)");
+	private static final Pattern DEVICE_BY_ID_PATTERN = Pattern.compile("(device\\d+): domain\\(id: \\$(domainId\\d+)\\) \\{ id device\\(id: \\$(deviceId\\d+)\\)");
+	private static final Map<String, String> CLOCK_PREFERENCES = new HashMap<>();
+	private static final String[] STATUS_FIELDS = { "id", "connection", "status", "clockingState", "clockPreferences" };
+
+	static {
+		CLOCK_PREFERENCES.put("DeviceClockingSyncToExternalSet", "externalWordClock");
+		CLOCK_PREFERENCES.put("DeviceClockingPreferredLeaderSet", "leader");
+		CLOCK_PREFERENCES.put("DeviceClockingUnicastSet", "unicastClocking");
+		CLOCK_PREFERENCES.put("DeviceClockingPTPV1UnicastDelayRequestSet", "v1UnicastDelayRequests");
+	}
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final ReadWriteLock fleetLock = new ReentrantReadWriteLock();
+	private final Map<String, ObjectNode> domains = new LinkedHashMap<>();
+	private final Map<String, Map<String, ObjectNode>> devicesByDomain = new LinkedHashMap<>();
+	private final Map<String, LongAdder> requestsByOperation = new ConcurrentHashMap<>();
+	private final LongAdder bytesSent = new LongAdder();
+	private final Random random = new Random(42);
+	private final HttpServer server;
+	private final ExecutorService executorService;
+
+	private volatile long latency;
+	private volatile double errorRate;
+
+	/**
+	 * Creates a server serving the fleet of the given Devices response. The server is not started.
+	 *
+	 * @param devicesInfo the response of the Devices query
+	 * @param threads the number of threads serving the requests
+	 * @throws IOException if the server cannot be bound
+	 */
+	public FakeDanteDirectorServer(String devicesInfo, int threads) throws IOException {
+		for (JsonNode domain : objectMapper.readTree(devicesInfo).get("data").get("domains")) {
+			String domainId = domain.get("id").asText();
+			ObjectNode domainNode = objectMapper.createObjectNode();
+			domainNode.put("name", domain.get("name").asText());
+			domainNode.put("id", domainId);
+			ObjectNode status = domainNode.putObject("status");
+			status.put("clocking", "OK").put("connectivity", "OK").put("latency", "OK").put("subscriptions", "OK").put("summary", "OK");
+			status.putObject("domainAlertMessage");
+			domains.put(domainId, domainNode);
+			Map<String, ObjectNode> devices = new LinkedHashMap<>();
+			for (JsonNode device : domain.get("devices")) {
+				devices.put(device.get("id").asText(), (ObjectNode) device);
+			}
+			devicesByDomain.put(domainId, devices);
+		}
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		executorService = Executors.newFixedThreadPool(threads);
+		server.setExecutor(executorService);
+		server.createContext("/", this::handle);
+	}
+
+	public void start() {
+		server.start();
+	}
+
+	public void stop() {
+		server.stop(0);
+		executorService.shutdownNow();
+	}
+
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	/**
+	 * Sets {@link #latency} value
+	 *
+	 * @param latency new value of {@link #latency}, in milliseconds
+	 */
+	public void setLatency(long latency) {
+		this.latency = latency;
+	}
+
+	/**
+	 * Sets {@link #errorRate} value
+	 *
+	 * @param errorRate new value of {@link #errorRate}, the ratio of requests answered with an HTTP 500 error
+	 */
+	public void setErrorRate(double errorRate) {
+		this.errorRate = errorRate;
+	}
+
+	/**
+	 * Retrieves the number of requests received, by GraphQL operation name.
+	 *
+	 * @return map of the request counts
+	 */
+	public Map<String, Long> getRequestCounts() {
+		Map<String, Long> counts = new LinkedHashMap<>();
+		requestsByOperation.forEach((operation, count) -> counts.put(operation, count.sum()));
+		return counts;
+	}
+
+	/**
+	 * Retrieves {@link #bytesSent}
+	 *
+	 * @return number of response bytes sent
+	 */
+	public long getBytesSent() {
+		return bytesSent.sum();
+	}
+
+	/**
+	 * Retrieves the value of a clock preference of a device.
+	 *
+	 * @param deviceId the id of the device
+	 * @param preference the name of the clock preference
+	 * @return the value of the preference, null if the device is unknown
+	 */
+	public Boolean getClockPreference(String deviceId, String preference) {
+		fleetLock.readLock().lock();
+		try {
+			ObjectNode device = findDevice(deviceId);
+			return device == null ? null : device.get("clockPreferences").get(preference).asBoolean();
+		} finally {
+			fleetLock.readLock().unlock();
+		}
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try {
+			JsonNode request = objectMapper.readTree(readBody(exchange.getRequestBody()));
+			String query = request.path("query").asText();
+			JsonNode variables = request.path("variables");
+			Matcher operation = OPERATION_PATTERN.matcher(query);
+			String operationName = operation.find() ? operation.group(2) : "Unknown";
+			requestsByOperation.computeIfAbsent(operationName, key -> new LongAdder()).increment();
+			if (latency > 0) {
+				TimeUnit.MILLISECONDS.sleep(latency);
+			}
+			if (errorRate > 0 && nextDouble() < errorRate) {
+				send(exchange, 500, "{\"errors\":[{\"message\":\"Injected failure\"}]}".getBytes());
+				return;
+			}
+			ObjectNode response = objectMapper.createObjectNode();
+			ObjectNode data = response.putObject("data");
+			if ("mutation".equals(operation.group(1))) {
+				fleetLock.writeLock().lock();
+				try {
+					mutate(operationName, query, variables, data);
+				} finally {
+					fleetLock.writeLock().unlock();
+				}
+			} else {
+				fleetLock.readLock().lock();
+				try {
+					query(operationName, query, variables, data);
+					// serialized under the lock, as mutations update the device nodes in place
+					send(exchange, 200, objectMapper.writeValueAsBytes(response));
+				} finally {
+					fleetLock.readLock().unlock();
+				}
+				return;
+			}
+			send(exchange, 200, objectMapper.writeValueAsBytes(response));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			exchange.close();
+		} catch (RuntimeException e) {
+			send(exchange, 400, objectMapper.writeValueAsBytes(objectMapper.createObjectNode().set("errors",
+					objectMapper.createArrayNode().add(objectMapper.createObjectNode().put("message", String.valueOf(e.getMessage()))))));
+		}
+	}
+
+	private void query(String operationName, String query, JsonNode variables, ObjectNode data) {
+		switch (operationName) {
+			case "Domains":
+				ArrayNode domainArray = data.putArray("domains");
+				for (Map.Entry<String, ObjectNode> domain : domains.entrySet()) {
+					ObjectNode domainNode = domainArray.addObject().setAll(domain.getValue());
+					ArrayNode deviceIds = domainNode.putArray("devices");
+					for (String deviceId : devicesByDomain.get(domain.getKey()).keySet()) {
+						deviceIds.addObject().put("id", deviceId);
+					}
+				}
+				break;
+			case "Devices":
+			case "DomainsDevices":
+				ArrayNode devicesArray = data.putArray("domains");
+				for (Map.Entry<String, ObjectNode> domain : domains.entrySet()) {
+					ObjectNode domainNode = devicesArray.addObject().put("id", domain.getKey()).put("name", domain.getValue().get("name").asText());
+					if ("DomainsDevices".equals(operationName)) {
+						domainNode.set("status", domain.getValue().get("status"));
+					}
+					domainNode.putArray("devices").addAll(devicesByDomain.get(domain.getKey()).values());
+				}
+				break;
+			case "DevicesStatus":
+				ArrayNode statusArray = data.putArray("domains");
+				for (Map.Entry<String, Map<String, ObjectNode>> domain : devicesByDomain.entrySet()) {
+					ObjectNode domainNode = statusArray.addObject().put("id", domain.getKey());
+					ArrayNode devices = domainNode.putArray("devices");
+					for (ObjectNode device : domain.getValue().values()) {
+						ObjectNode status = devices.addObject();
+						for (String field : STATUS_FIELDS) {
+							status.set(field, device.get(field));
+						}
+					}
+				}
+				break;
+			case "Domain":
+				String domainId = variables.path("id").asText();
+				if (domains.containsKey(domainId)) {
+					ObjectNode domainNode = data.putObject("domain").put("id", domainId).put("name", domains.get(domainId).get("name").asText());
+					domainNode.putArray("devices").addAll(devicesByDomain.get(domainId).values());
+				} else {
+					data.putNull("domain");
+				}
+				break;
+			case "DevicesById":
+				Matcher matcher = DEVICE_BY_ID_PATTERN.matcher(query);
+				while (matcher.find()) {
+					String deviceDomainId = variables.path(matcher.group(2)).asText();
+					Map<String, ObjectNode> devices = devicesByDomain.get(deviceDomainId);
+					ObjectNode domainNode = data.putObject(matcher.group(1)).put("id", deviceDomainId);
+					domainNode.set("device", devices == null ? null : devices.get(variables.path(matcher.group(3)).asText()));
+				}
+				break;
+			default:
+				throw new IllegalArgumentException("Unsupported query " + operationName);
+		}
+	}
+
+	private void mutate(String operationName, String query, JsonNode variables, ObjectNode data) {
+		switch (operationName) {
+			case "ControlCommand":
+				Matcher control = CONTROL_PATTERN.matcher(query);
+				if (!control.find()) {
+					throw new IllegalArgumentException("Unsupported mutation " + query);
+				}
+				data.putObject(control.group(1)).put("ok", setClockPreference(control.group(1), variables.path("input")));
+				break;
+			case "ControlCommands":
+				Matcher batchControl = BATCH_CONTROL_PATTERN.matcher(query);
+				while (batchControl.find()) {
+					data.putObject(batchControl.group(1)).put("ok", setClockPreference(batchControl.group(2), variables.path(batchControl.group(3))));
+				}
+				break;
+			case "DevicesEnroll":
+				JsonNode input = variables.path("input");
+				String domainId = input.path("domainId").asText();
+				Map<String, ObjectNode> targetDevices = devicesByDomain.get(domainId);
+				if (targetDevices == null) {
+					throw new IllegalArgumentException("Unknown domain " + domainId);
+				}
+				JsonNode deviceIds = input.path("deviceIds");
+				for (JsonNode deviceId : deviceIds.isArray() ? deviceIds : objectMapper.createArrayNode().add(deviceIds)) {
+					for (Map<String, ObjectNode> devices : devicesByDomain.values()) {
+						ObjectNode device = devices.remove(deviceId.asText());
+						if (device != null) {
+							((ObjectNode) device.get("domain")).put("name", domains.get(domainId).get("name").asText());
+							targetDevices.put(deviceId.asText(), device);
+							break;
+						}
+					}
+				}
+				data.putObject("DevicesEnroll").put("ok", true);
+				break;
+			default:
+				throw new IllegalArgumentException("Unsupported mutation " + operationName);
+		}
+	}
+
+	private boolean setClockPreference(String commandName, JsonNode input) {
+		String preference = CLOCK_PREFERENCES.get(commandName);
+		ObjectNode device = findDevice(input.path("deviceId").asText());
+		if (preference == null || device == null) {
+			return false;
+		}
+		((ObjectNode) device.get("clockPreferences")).put(preference, input.path("enabled").asBoolean());
+		return true;
+	}
+
+	private ObjectNode findDevice(String deviceId) {
+		for (Map<String, ObjectNode> devices : devicesByDomain.values()) {
+			ObjectNode device = devices.get(deviceId);
+			if (device != null) {
+				return device;
+			}
+		}
+		return null;
+	}
+
+	private synchronized double nextDouble() {
+		return random.nextDouble();
+	}
+
+	private void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, body.length);
+		try (OutputStream outputStream = exchange.getResponseBody()) {
+			outputStream.write(body);
+		}
+		bytesSent.add(body.length);
+	}
+
+	private static byte[] readBody(InputStream inputStream) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		for (int read = inputStream.read(buffer); read >= 0; read = inputStream.read(buffer)) {
+			outputStream.write(buffer, 0, read);
+		}
+		return outputStream.toByteArray();
+	}
+}
@@ -0,0 +1,516 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common.DanteDirectorQuery;
+
+/**
+ * Deterministic generator of a synthetic Dante fleet, emitting responses shaped like the {@link DanteDirectorQuery#SYSTEM_INFO}
+ * and {@link DanteDirectorQuery#DEVICES_INFO} queries.
+ * The devices are drawn from a catalog of products with 2 to 512 receive channels and their own capabilities. Every domain
+ * has a grand leader, a few preferred leaders and unicast clocked devices, and its receivers subscribe to the channels
+ * of a handful of transmitters of the same domain.
+ * {@link #mutate(double)} applies churn to the fleet, so that successive snapshots simulate a live system. The same seed
+ * always generates the same fleet and the same sequence of snapshots.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.0
+ */
+public class FleetGenerator {
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+	private static final Instant START_TIME = Instant.parse("2024-03-13T02:28:10.123Z");
+	private static final long SNAPSHOT_INTERVAL_SECONDS = 30;
+	private static final double TRANSMITTER_RATIO = 0.08;
+	private static final double UNSUBSCRIBED_CHANNEL_RATIO = 0.2;
+	private static final String[] STATUSES = { "OK", "WARNING", "ERROR" };
+
+	/**
+	 * Products of the catalog, with the relative weight of each of them in the fleet
+	 */
+	private static final Product[] PRODUCTS = {
+			new Product("AVIO AI2", "Audinate", 2, 30, false, true, false, true),
+			new Product("AVIO AO2", "Audinate", 2, 30, false, true, false, true),
+			new Product("ADP-USBC-2X2", "Audinate", 2, 10, false, true, false, true),
+			new Product("MXA910", "Shure", 4, 8, false, false, false, false),
+			new Product("ULXD4Q", "Shure", 4, 6, true, true, true, true),
+			new Product("Ultimo X4", "Audinate", 4, 8, true, true, true, true),
+			new Product("RedNet D16R", "Focusrite", 16, 5, true, true, true, true),
+			new Product("Rio3224-D2", "Yamaha", 32, 4, true, true, true, true),
+			new Product("Brooklyn 3", "Audinate", 64, 4, true, true, true, true),
+			new Product("Dante Virtual Soundcard", "Audinate", 64, 6, false, false, false, true),
+			new Product("CL5", "Yamaha", 128, 2, true, true, true, true),
+			new Product("SD7", "DiGiCo", 256, 1, true, true, true, true),
+			new Product("HC", "Audinate", 512, 1, true, true, true, true)
+	};
+
+	private final Random random;
+	private final ArrayNode domains;
+	private final List<ObjectNode> devices = new ArrayList<>();
+	private final List<List<ObjectNode>> transmitters = new ArrayList<>();
+	private final Set<JsonNode> transmitterSet = Collections.newSetFromMap(new IdentityHashMap<>());
+	private final int totalWeight;
+	private int snapshot;
+
+	/**
+	 * Generates a fleet spread over the given number of domains
+	 *
+	 * @param seed the seed of the fleet
+	 * @param deviceCount the number of devices of the fleet
+	 * @param domainCount the number of domains of the fleet
+	 */
+	public FleetGenerator(long seed, int deviceCount, int domainCount) {
+		random = new Random(seed);
+		int weight = 0;
+		for (Product product : PRODUCTS) {
+			weight += product.weight;
+		}
+		totalWeight = weight;
+		domains = OBJECT_MAPPER.createArrayNode();
+		for (int domain = 0; domain < domainCount; domain++) {
+			domains.addObject().put("id", "domain-" + domain).put("name", "Site " + domain).putArray("devices");
+			transmitters.add(new ArrayList<>());
+		}
+		for (int index = 0; index < deviceCount; index++) {
+			// domains of very different sizes, as in real systems
+			int domain = Math.min(domainCount - 1, (int) (domainCount * Math.pow(random.nextDouble(), 1.5)));
+			ObjectNode device = device(index, domain);
+			((ArrayNode) domains.get(domain).get("devices")).add(device);
+			devices.add(device);
+		}
+		for (int domain = 0; domain < domainCount; domain++) {
+			assignRoles(domain);
+		}
+		for (int domain = 0; domain < domainCount; domain++) {
+			for (JsonNode device : domains.get(domain).get("devices")) {
+				subscribe((ObjectNode) device, domain);
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the response of the Domains query for the current snapshot
+	 *
+	 * @return the response json
+	 */
+	public String systemInfo() {
+		ObjectNode response = OBJECT_MAPPER.createObjectNode();
+		ArrayNode responseDomains = response.putObject("data").putArray("domains");
+		for (JsonNode domain : domains) {
+			ObjectNode domainNode = responseDomains.addObject();
+			domainNode.put("name", domain.get("name").asText());
+			domainNode.put("id", domain.get("id").asText());
+			ArrayNode deviceIds = domainNode.putArray("devices");
+			String[] worst = { "OK", "OK", "OK", "OK" };
+			String[] categories = { "clocking", "connectivity", "latency", "subscriptions" };
+			for (JsonNode device : domain.get("devices")) {
+				deviceIds.addObject().put("id", device.get("id").asText());
+				for (int i = 0; i < categories.length; i++) {
+					worst[i] = worstStatus(worst[i], device.get("status").get(categories[i]).asText());
+				}
+			}
+			ObjectNode status = domainNode.putObject("status");
+			String summary = "OK";
+			for (int i = 0; i < categories.length; i++) {
+				status.put(categories[i], worst[i]);
+				summary = worstStatus(summary, worst[i]);
+			}
+			status.put("summary", summary);
+			ObjectNode alertMessage = status.putObject("domainAlertMessage");
+			for (int i = 0; i < categories.length; i++) {
+				if ("OK".equals(worst[i])) {
+					alertMessage.putNull(categories[i]);
+				} else {
+					alertMessage.putObject(categories[i]).put("message", "Devices with " + categories[i] + " issues").put("messageSeverity", worst[i]);
+				}
+			}
+		}
+		return response.toString();
+	}
+
+	/**
+	 * Retrieves the response of the Devices query for the current snapshot
+	 *
+	 * @return the response json
+	 */
+	public String devicesInfo() {
+		ObjectNode response = OBJECT_MAPPER.createObjectNode();
+		response.putObject("data").set("domains", domains);
+		return response.toString();
+	}
+
+	/**
+	 * Generates the Devices responses of successive snapshots, starting with the current one
+	 *
+	 * @param count the number of snapshots
+	 * @param churnRate the ratio of devices changed between two snapshots
+	 * @return the responses json
+	 */
+	public List<String> devicesInfoSnapshots(int count, double churnRate) {
+		List<String> snapshots = new ArrayList<>(count);
+		snapshots.add(devicesInfo());
+		for (int i = 1; i < count; i++) {
+			mutate(churnRate);
+			snapshots.add(devicesInfo());
+		}
+		return snapshots;
+	}
+
+	/**
+	 * Moves the fleet to its next snapshot, applying a single change to the given ratio of devices: drift of the frequency offset,
+	 * connection loss or recovery, status change, new subscription, new clock preference, rename or move to another domain
+	 *
+	 * @param churnRate the ratio of devices to change, between 0 and 1
+	 * @return the number of changed devices
+	 */
+	public int mutate(double churnRate) {
+		snapshot++;
+		int changeCount = (int) Math.round(devices.size() * churnRate);
+		// partial Fisher-Yates shuffle, so that every device changes at most once per snapshot
+		List<ObjectNode> candidates = new ArrayList<>(devices);
+		for (int i = 0; i < changeCount; i++) {
+			int pick = i + random.nextInt(candidates.size() - i);
+			ObjectNode device = candidates.get(pick);
+			candidates.set(pick, candidates.get(i));
+			candidates.set(i, device);
+			mutateDevice(device);
+		}
+		return changeCount;
+	}
+
+	/**
+	 * Retrieves the ids of the devices of the fleet
+	 *
+	 * @return the device ids, by index
+	 */
+	public List<String> getDeviceIds() {
+		List<String> deviceIds = new ArrayList<>(devices.size());
+		for (ObjectNode device : devices) {
+			deviceIds.add(device.get("id").asText());
+		}
+		return deviceIds;
+	}
+
+	/**
+	 * Generates a single device, without clocking role nor subscriptions
+	 *
+	 * @param index the index of the device
+	 * @param domain the index of its domain
+	 * @return the device json
+	 */
+	private ObjectNode device(int index, int domain) {
+		Product product = pickProduct();
+		ObjectNode device = OBJECT_MAPPER.createObjectNode();
+		device.put("id", "device-" + index);
+		device.put("name", product.model.replaceAll("[^A-Za-z0-9]", "") + "-" + Integer.toHexString(index));
+		device.put("enrolmentState", "ENROLLED");
+		if (random.nextInt(10) == 0) {
+			device.put("comments", "Checked on site");
+		} else {
+			device.putNull("comments");
+		}
+		device.put("description", product.manufacturer + " " + product.model);
+		device.put("location", "Room " + random.nextInt(200) + ", rack " + random.nextInt(12));
+		device.putObject("domain").put("name", domains.get(domain).get("name").asText());
+		device.putObject("discovery").put("type", random.nextInt(20) == 0 ? "UNICAST_DNS" : "MDNS").put("fqdn", device.get("name").asText() + ".local");
+		device.putObject("identity").put("productModelName", product.model).put("productVersion", "1." + random.nextInt(8) + "." + random.nextInt(10))
+				.put("danteHardwareVersion", product.receiveChannels > 64 ? "3.0" : "2.0").put("productSoftwareVersion", "4." + random.nextInt(3) + "." + random.nextInt(10))
+				.put("danteVersion", "4." + random.nextInt(3) + "." + random.nextInt(10) + "." + random.nextInt(10));
+		device.putObject("manufacturer").put("name", product.manufacturer);
+		device.putArray("interfaces").addObject().put("address", "10." + index / 65536 % 256 + "." + index / 256 % 256 + "." + index % 256)
+				.put("macAddress", String.format("00:1d:c1:%02x:%02x:%02x", index / 65536 % 256, index / 256 % 256, index % 256)).put("subnet", "10.0.0.0").put("netmask", 8);
+		device.putObject("capabilities").put("CAN_WRITE_UNICAST_DELAY_REQUESTS", product.unicastDelayRequests).put("CAN_WRITE_PREFERRED_MASTER", product.preferredLeader)
+				.put("CAN_WRITE_EXT_WORD_CLOCK", product.externalWordClock).put("CAN_UNICAST_CLOCKING", product.unicastClocking);
+		ArrayNode rxChannels = device.putArray("rxChannels");
+		for (int channel = 1; channel <= product.receiveChannels; channel++) {
+			rxChannels.addObject().put("mediaType", "AUDIO").put("name", String.format("%02d", channel)).putNull("subscribedChannel").putNull("subscribedDevice");
+		}
+		device.putObject("connection").put("state", "READY").put("lastChanged", START_TIME.minusSeconds(random.nextInt(30 * 24 * 3600)).toString());
+		ObjectNode status = device.putObject("status").put("clocking", "OK").put("connectivity", "OK").put("latency", "OK").put("subscriptions", "OK").put("summary", "OK");
+		status.putObject("alertMessage").putNull("clocking").putNull("connectivity").putNull("latency").putNull("subscriptions");
+		device.putObject("clockingState").put("followerWithoutLeader", false).put("frequencyOffset", random.nextInt(41) - 20).put("grandLeader", false)
+				.put("locked", "LOCKED").put("multicastLeader", false).put("muteStatus", "NOT_MUTED").putNull("unicastFollower").putNull("unicastLeader");
+		device.putObject("clockPreferences").put("externalWordClock", false).put("leader", false).put("unicastClocking", false).put("v1UnicastDelayRequests", false);
+		return device;
+	}
+
+	/**
+	 * Assigns the clocking roles of the devices of a domain and picks its transmitters, the devices with the most channels
+	 * being the most likely ones
+	 *
+	 * @param domain the index of the domain
+	 */
+	private void assignRoles(int domain) {
+		ObjectNode grandLeader = null;
+		for (JsonNode node : domains.get(domain).get("devices")) {
+			ObjectNode device = (ObjectNode) node;
+			JsonNode capabilities = device.get("capabilities");
+			ObjectNode clockPreferences = (ObjectNode) device.get("clockPreferences");
+			ObjectNode clockingState = (ObjectNode) device.get("clockingState");
+			if (capabilities.get("CAN_WRITE_PREFERRED_MASTER").asBoolean() && random.nextInt(25) == 0) {
+				clockPreferences.put("leader", true);
+				if (grandLeader == null) {
+					grandLeader = device;
+				}
+			}
+			if (capabilities.get("CAN_WRITE_EXT_WORD_CLOCK").asBoolean() && random.nextInt(40) == 0) {
+				clockPreferences.put("externalWordClock", true);
+			}
+			if (capabilities.get("CAN_UNICAST_CLOCKING").asBoolean() && random.nextInt(15) == 0) {
+				clockPreferences.put("unicastClocking", true);
+				clockingState.put("unicastFollower", true).put("unicastLeader", false);
+			}
+			if (capabilities.get("CAN_WRITE_UNICAST_DELAY_REQUESTS").asBoolean() && random.nextInt(30) == 0) {
+				clockPreferences.put("v1UnicastDelayRequests", true);
+			}
+			int channels = device.get("rxChannels").size();
+			if (random.nextDouble() < TRANSMITTER_RATIO * Math.max(1, Math.log(channels) / Math.log(4))) {
+				transmitters.get(domain).add(device);
+				transmitterSet.add(device);
+			}
+		}
+		List<JsonNode> domainDevices = new ArrayList<>();
+		domains.get(domain).get("devices").forEach(domainDevices::add);
+		if (grandLeader == null && !domainDevices.isEmpty()) {
+			grandLeader = (ObjectNode) domainDevices.get(0);
+		}
+		if (grandLeader != null) {
+			((ObjectNode) grandLeader.get("clockingState")).put("grandLeader", true).put("multicastLeader", true).put("frequencyOffset", 0);
+			if (transmitters.get(domain).isEmpty()) {
+				transmitters.get(domain).add(grandLeader);
+				transmitterSet.add(grandLeader);
+			}
+		}
+	}
+
+	/**
+	 * Subscribes the receive channels of a device to the channels of the transmitters of its domain. A receiver takes
+	 * most of its channels from one or two transmitters, in contiguous blocks, and leaves some of them unsubscribed.
+	 *
+	 * @param device the device json
+	 * @param domain the index of its domain
+	 */
+	private void subscribe(ObjectNode device, int domain) {
+		List<ObjectNode> domainTransmitters = transmitters.get(domain);
+		ArrayNode rxChannels = (ArrayNode) device.get("rxChannels");
+		ObjectNode transmitter = null;
+		int transmitterChannel = 0;
+		for (JsonNode node : rxChannels) {
+			ObjectNode rxChannel = (ObjectNode) node;
+			if (random.nextDouble() < UNSUBSCRIBED_CHANNEL_RATIO) {
+				rxChannel.putNull("subscribedChannel").putNull("subscribedDevice");
+				continue;
+			}
+			if (transmitter == null || transmitterChannel >= transmitter.get("rxChannels").size() || random.nextInt(16) == 0) {
+				transmitter = domainTransmitters.get(random.nextInt(domainTransmitters.size()));
+				if (transmitter == device) {
+					transmitter = null;
+					rxChannel.putNull("subscribedChannel").putNull("subscribedDevice");
+					continue;
+				}
+				transmitterChannel = random.nextInt(Math.max(1, transmitter.get("rxChannels").size() / 2));
+			}
+			transmitterChannel++;
+			rxChannel.put("subscribedChannel", String.format("%02d", transmitterChannel)).put("subscribedDevice", transmitter.get("name").asText());
+		}
+	}
+
+	/**
+	 * Applies a single change to a device
+	 *
+	 * @param device the device json
+	 */
+	private void mutateDevice(ObjectNode device) {
+		ObjectNode clockingState = (ObjectNode) device.get("clockingState");
+		int change = random.nextInt(100);
+		if (change < 55) {
+			int offset = clockingState.get("frequencyOffset").asInt();
+			int drift = random.nextBoolean() ? 1 : -1;
+			clockingState.put("frequencyOffset", Math.abs(offset + drift) > 40 ? offset - drift : offset + drift);
+		} else if (change < 65) {
+			ObjectNode connection = (ObjectNode) device.get("connection");
+			boolean ready = "READY".equals(connection.get("state").asText());
+			connection.put("state", ready ? "UNREACHABLE" : "READY").put("lastChanged", START_TIME.plusSeconds(snapshot * SNAPSHOT_INTERVAL_SECONDS).toString());
+			setStatus(device, "connectivity", ready ? "ERROR" : "OK", "Device is unreachable");
+		} else if (change < 75) {
+			String[] categories = { "clocking", "latency", "subscriptions" };
+			String category = categories[random.nextInt(categories.length)];
+			String current = device.get("status").get(category).asText();
+			String next = STATUSES[random.nextInt(STATUSES.length)];
+			if (next.equals(current)) {
+				next = "OK".equals(current) ? "WARNING" : "OK";
+			}
+			setStatus(device, category, next, "Device has " + category + " issues");
+			if ("clocking".equals(category)) {
+				clockingState.put("locked", "OK".equals(next) ? "LOCKED" : "UNLOCKED").put("followerWithoutLeader", "ERROR".equals(next));
+			}
+		} else if (change < 85) {
+			ArrayNode rxChannels = (ArrayNode) device.get("rxChannels");
+			ObjectNode rxChannel = (ObjectNode) rxChannels.get(random.nextInt(rxChannels.size()));
+			int domain = domainIndex(device);
+			List<ObjectNode> domainTransmitters = transmitters.get(domain);
+			ObjectNode transmitter = domainTransmitters.isEmpty() ? device : domainTransmitters.get(random.nextInt(domainTransmitters.size()));
+			if (rxChannel.get("subscribedDevice").isNull() && transmitter != device) {
+				rxChannel.put("subscribedChannel", String.format("%02d", 1 + random.nextInt(transmitter.get("rxChannels").size())))
+						.put("subscribedDevice", transmitter.get("name").asText());
+			} else {
+				rxChannel.putNull("subscribedChannel").putNull("subscribedDevice");
+			}
+		} else if (change < 92) {
+			ObjectNode clockPreferences = (ObjectNode) device.get("clockPreferences");
+			String preference = random.nextBoolean() ? "leader" : "unicastClocking";
+			clockPreferences.put(preference, !clockPreferences.get(preference).asBoolean());
+		} else if (change < 97 || domains.size() < 2 || transmitterSet.contains(device)) {
+			String previousName = device.get("name").asText();
+			device.put("name", previousName.replaceAll("-r\\d+$", "") + "-r" + snapshot);
+			if (transmitterSet.contains(device)) {
+				renameSubscriptions(device, previousName);
+			}
+		} else {
+			moveDevice(device);
+		}
+		updateSummary(device);
+	}
+
+	/**
+	 * Moves a receiver to another domain, dropping its subscriptions which cannot cross domains
+	 *
+	 * @param device the device json
+	 */
+	private void moveDevice(ObjectNode device) {
+		int domain = domainIndex(device);
+		int target = (domain + 1 + random.nextInt(domains.size() - 1)) % domains.size();
+		ArrayNode source = (ArrayNode) domains.get(domain).get("devices");
+		for (int i = 0; i < source.size(); i++) {
+			if (source.get(i) == device) {
+				source.remove(i);
+				break;
+			}
+		}
+		((ArrayNode) domains.get(target).get("devices")).add(device);
+		((ObjectNode) device.get("domain")).put("name", domains.get(target).get("name").asText());
+		for (JsonNode rxChannel : device.get("rxChannels")) {
+			((ObjectNode) rxChannel).putNull("subscribedChannel").putNull("subscribedDevice");
+		}
+	}
+
+	/**
+	 * Updates the subscriptions to the channels of a renamed transmitter
+	 *
+	 * @param transmitter the transmitter json, with its new name
+	 * @param previousName the previous name of the transmitter
+	 */
+	private void renameSubscriptions(ObjectNode transmitter, String previousName) {
+		String name = transmitter.get("name").asText();
+		for (JsonNode device : domains.get(domainIndex(transmitter)).get("devices")) {
+			for (JsonNode rxChannel : device.get("rxChannels")) {
+				if (previousName.equals(rxChannel.get("subscribedDevice").asText())) {
+					((ObjectNode) rxChannel).put("subscribedDevice", name);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Sets the status of a device for a category, with its alert message
+	 *
+	 * @param device the device json
+	 * @param category the status category
+	 * @param status the new status
+	 * @param message the alert message when the status is not OK
+	 */
+	private void setStatus(ObjectNode device, String category, String status, String message) {
+		ObjectNode statusNode = (ObjectNode) device.get("status");
+		statusNode.put(category, status);
+		if ("OK".equals(status)) {
+			((ObjectNode) statusNode.get("alertMessage")).putNull(category);
+		} else {
+			((ObjectNode) statusNode.get("alertMessage")).put(category, message);
+		}
+	}
+
+	/**
+	 * Updates the summary status of a device from its category statuses
+	 *
+	 * @param device the device json
+	 */
+	private void updateSummary(ObjectNode device) {
+		ObjectNode status = (ObjectNode) device.get("status");
+		String summary = "OK";
+		for (String category : new String[] { "clocking", "connectivity", "latency", "subscriptions" }) {
+			summary = worstStatus(summary, status.get(category).asText());
+		}
+		status.put("summary", summary);
+	}
+
+	private int domainIndex(JsonNode device) {
+		String domainName = device.get("domain").get("name").asText();
+		for (int i = 0; i < domains.size(); i++) {
+			if (domains.get(i).get("name").asText().equals(domainName)) {
+				return i;
+			}
+		}
+		throw new IllegalStateException("Unknown domain " + domainName);
+	}
+
+	private Product pickProduct() {
+		int pick = random.nextInt(totalWeight);
+		for (Product product : PRODUCTS) {
+			pick -= product.weight;
+			if (pick < 0) {
+				return product;
+			}
+		}
+		return PRODUCTS[0];
+	}
+
+	private static String worstStatus(String first, String second) {
+		for (int i = STATUSES.length - 1; i >= 0; i--) {
+			if (STATUSES[i].equals(first) || STATUSES[i].equals(second)) {
+				return STATUSES[i];
+			}
+		}
+		return first;
+	}
+
+	/**
+	 * Product of the catalog the devices are drawn from
+	 */
+	private static class Product {
+		private final String model;
+		private final String manufacturer;
+		private final int receiveChannels;
+		private final int weight;
+		private final boolean externalWordClock;
+		private final boolean preferredLeader;
+		private final boolean unicastDelayRequests;
+		private final boolean unicastClocking;
+
+		Product(String model, String manufacturer, int receiveChannels, int weight, boolean externalWordClock, boolean preferredLeader, boolean unicastDelayRequests,
+				boolean unicastClocking) {
+			this.model = model;
+			this.manufacturer = manufacturer;
+			this.receiveChannels = receiveChannels;
+			this.weight = weight;
+			this.externalWordClock = externalWordClock;
+			this.preferredLeader = preferredLeader;
+			this.unicastDelayRequests = unicastDelayRequests;
+			this.unicastClocking = unicastClocking;
+		}
+	}
+}
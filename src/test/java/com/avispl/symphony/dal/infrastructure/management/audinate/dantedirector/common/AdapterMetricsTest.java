@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link AdapterMetrics} and of its latency histogram.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class AdapterMetricsTest {
+
+	/**
+	 * Every value falls into a bucket whose upper bound is at least the value and within 25% of it.
+	 */
+	@Test
+	void testHistogramBuckets() {
+		int previousIndex = -1;
+		for (long value = 0; value < 1 << 20; value++) {
+			int index = AdapterMetrics.LatencyHistogram.bucketIndex(value);
+			long upperBound = AdapterMetrics.LatencyHistogram.bucketUpperBound(index);
+			Assert.assertTrue(index == previousIndex || index == previousIndex + 1);
+			Assert.assertTrue(upperBound >= value);
+			Assert.assertTrue(upperBound <= value * 1.25);
+			previousIndex = index;
+		}
+	}
+
+	/**
+	 * Percentiles are reported as the upper bound of the bucket they fall into.
+	 */
+	@Test
+	void testPercentiles() {
+		AdapterMetrics.LatencyHistogram histogram = new AdapterMetrics.LatencyHistogram();
+		Assert.assertEquals(0, histogram.getPercentile(50));
+		for (int i = 1; i <= 100; i++) {
+			histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+		}
+		Assert.assertEquals(100, histogram.getCount());
+		assertWithinBucket(50, histogram.getPercentile(50));
+		assertWithinBucket(95, histogram.getPercentile(95));
+		assertWithinBucket(99, histogram.getPercentile(99));
+		assertWithinBucket(100, histogram.getPercentile(100));
+	}
+
+	/**
+	 * The metrics are published under the AdapterMetrics group.
+	 */
+	@Test
+	void testPopulateStatistics() {
+		AdapterMetrics adapterMetrics = new AdapterMetrics();
+		adapterMetrics.recordRequest(TimeUnit.MILLISECONDS.toNanos(20), true);
+		adapterMetrics.recordRequest(TimeUnit.MILLISECONDS.toNanos(40), false);
+		adapterMetrics.addBytesReceived(1024);
+		adapterMetrics.recordDeviceReceived();
+		adapterMetrics.recordDeviceReceived();
+		adapterMetrics.recordDeviceMapped(TimeUnit.MICROSECONDS.toNanos(500));
+		adapterMetrics.recordControls(3, true);
+		adapterMetrics.recordControls(1, false);
+		Map<String, String> stats = new HashMap<>();
+		adapterMetrics.populateStatistics(stats);
+
+		Assert.assertEquals(14, stats.size());
+		Assert.assertEquals("2", stats.get("AdapterMetrics#APIRequests"));
+		Assert.assertEquals("1", stats.get("AdapterMetrics#APIFailedRequests"));
+		Assert.assertEquals("1024", stats.get("AdapterMetrics#BytesReceived"));
+		Assert.assertEquals("2", stats.get("AdapterMetrics#DevicesReceived"));
+		Assert.assertEquals("1", stats.get("AdapterMetrics#DevicesMapped"));
+		Assert.assertEquals("0.500", stats.get("AdapterMetrics#MappingAverageTime(ms)"));
+		Assert.assertEquals("3", stats.get("AdapterMetrics#ControlsSucceeded"));
+		Assert.assertEquals("1", stats.get("AdapterMetrics#ControlsFailed"));
+	}
+
+	/**
+	 * Requests answered with GraphQL errors are counted as failed, without being counted twice.
+	 */
+	@Test
+	void testErrorResponses() {
+		AdapterMetrics adapterMetrics = new AdapterMetrics();
+		adapterMetrics.recordRequest(TimeUnit.MILLISECONDS.toNanos(20), true);
+		adapterMetrics.recordRequest(TimeUnit.MILLISECONDS.toNanos(20), true);
+		adapterMetrics.recordErrorResponse();
+		Map<String, String> stats = new HashMap<>();
+		adapterMetrics.populateStatistics(stats);
+
+		Assert.assertEquals("2", stats.get("AdapterMetrics#APIRequests"));
+		Assert.assertEquals("1", stats.get("AdapterMetrics#APIFailedRequests"));
+	}
+
+	/**
+	 * The Prometheus buckets count exactly the requests lasting up to their bound, including the ones on the bound.
+	 */
+	@Test
+	void testPrometheusBuckets() {
+		AdapterMetrics adapterMetrics = new AdapterMetrics();
+		adapterMetrics.recordRequest(TimeUnit.MILLISECONDS.toNanos(5), true);
+		adapterMetrics.recordRequest(TimeUnit.MILLISECONDS.toNanos(5) + 1, true);
+		adapterMetrics.recordRequest(TimeUnit.MILLISECONDS.toNanos(9), true);
+		adapterMetrics.recordRequest(TimeUnit.MILLISECONDS.toNanos(240), true);
+		adapterMetrics.recordRequest(TimeUnit.SECONDS.toNanos(60), false);
+		StringBuilder builder = new StringBuilder();
+		adapterMetrics.appendPrometheus(builder);
+		String exposition = builder.toString();
+
+		Assert.assertTrue(exposition.contains("dante_adapter_request_duration_seconds_bucket{le=\"0.005\"} 1\n"));
+		Assert.assertTrue(exposition.contains("dante_adapter_request_duration_seconds_bucket{le=\"0.01\"} 3\n"));
+		Assert.assertTrue(exposition.contains("dante_adapter_request_duration_seconds_bucket{le=\"0.1\"} 3\n"));
+		Assert.assertTrue(exposition.contains("dante_adapter_request_duration_seconds_bucket{le=\"0.25\"} 4\n"));
+		Assert.assertTrue(exposition.contains("dante_adapter_request_duration_seconds_bucket{le=\"30.0\"} 4\n"));
+		Assert.assertTrue(exposition.contains("dante_adapter_request_duration_seconds_bucket{le=\"+Inf\"} 5\n"));
+		Assert.assertTrue(exposition.contains("dante_adapter_request_duration_seconds_count 5\n"));
+	}
+
+	private void assertWithinBucket(long expectedMillis, long actualNanos) {
+		long expected = TimeUnit.MILLISECONDS.toNanos(expectedMillis);
+		Assert.assertTrue(actualNanos >= expected);
+		Assert.assertTrue(actualNanos <= expected * 1.25);
+	}
+}
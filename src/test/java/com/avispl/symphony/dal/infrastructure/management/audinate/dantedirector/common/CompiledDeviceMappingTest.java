@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.aggregator.parser.AggregatedDeviceProcessor;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMappingParser;
+
+/**
+ * Parity tests of {@link CompiledDeviceMapping} against the {@link AggregatedDeviceProcessor} of the same models.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class CompiledDeviceMappingTest {
+	private static final String FULL_DEVICE = "{\"id\":\"d1\",\"name\":\"Dev1\",\"enrolmentState\":\"ENROLLED\",\"manufacturer\":{\"name\":\"Audinate\"},\"domain\":{\"name\":\"Site A\"},"
+			+ "\"location\":\"Rack 1\",\"description\":\"\",\"comments\":\"null\",\"discovery\":{\"type\":\"MDNS\",\"fqdn\":\"dev1.local\"},"
+			+ "\"connection\":{\"state\":\"ready\",\"lastChanged\":\"2024-03-13T02:28:10.123Z\"},"
+			+ "\"identity\":{\"productModelName\":\"M1\",\"productVersion\":\"1.1.1\",\"productSoftwareVersion\":null,\"danteVersion\":\"4.2\"},"
+			+ "\"interfaces\":[{\"address\":\"10.0.0.1\",\"macAddress\":null,\"subnet\":\"10.0.0.0\",\"netmask\":24}],"
+			+ "\"capabilities\":{\"CAN_WRITE_PREFERRED_MASTER\":true,\"CAN_UNICAST_CLOCKING\":false},"
+			+ "\"status\":{\"clocking\":\"OK\",\"connectivity\":\"WARNING\",\"alertMessage\":{\"clocking\":null,\"connectivity\":{\"message\":\"Lost\",\"messageSeverity\":\"WARNING\"}}},"
+			+ "\"clockingState\":{\"frequencyOffset\":-22.5,\"muteStatus\":\"NOT_MUTED\",\"locked\":\"LOCKED\",\"grandLeader\":false,\"multicastLeader\":{\"subnet\":\"10.0.0.0\"}},"
+			+ "\"clockPreferences\":{\"leader\":true,\"externalWordClock\":null}}";
+	private static final String MINIMAL_DEVICE = "{\"id\":\"d2\",\"name\":null,\"connection\":{\"state\":\"OFFLINE\"},\"interfaces\":[{}]}";
+	private static final String DEVICE_WITHOUT_INTERFACES = "{\"id\":\"d3\",\"connection\":{\"state\":\"READY\"},\"interfaces\":[]}";
+	private static final String DEVICE_WITHOUT_CONNECTION = "{\"id\":\"d4\",\"interfaces\":[{}]}";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	/**
+	 * Every device of the model mapping yml is mapped as the processor maps it.
+	 */
+	@Test
+	void testModelMappingParity() throws Exception {
+		Map<String, PropertiesMapping> mapping = new PropertiesMappingParser().loadYML(DanteDirectorConstant.MODEL_MAPPING_AGGREGATED_DEVICE, getClass());
+		assertParity(mapping, "[" + FULL_DEVICE + "," + MINIMAL_DEVICE + "]");
+	}
+
+	/**
+	 * Devices the processor fails to map are rejected as well.
+	 */
+	@Test
+	void testModelMappingFailureParity() throws Exception {
+		Map<String, PropertiesMapping> mapping = new PropertiesMappingParser().loadYML(DanteDirectorConstant.MODEL_MAPPING_AGGREGATED_DEVICE, getClass());
+		AggregatedDeviceProcessor processor = new AggregatedDeviceProcessor(mapping);
+		CompiledDeviceMapping compiledMapping = new CompiledDeviceMapping(mapping);
+		for (String device : new String[] { DEVICE_WITHOUT_INTERFACES, DEVICE_WITHOUT_CONNECTION }) {
+			JsonNode devices = objectMapper.readTree("[" + device + "]");
+			Assert.assertThrows(RuntimeException.class, () -> processor.extractDevices(devices));
+			Assert.assertThrows(RuntimeException.class, () -> compiledMapping.extractDevices(devices));
+		}
+	}
+
+	/**
+	 * Static values and expressions that cannot be compiled are mapped as the processor maps them.
+	 */
+	@Test
+	void testFallbackParity() throws Exception {
+		Map<String, String> properties = new LinkedHashMap<>();
+		properties.put("Vendor", "Audinate");
+		properties.put("UpperName", "get(\"name\").asText().toUpperCase()");
+		properties.put("SafeState", "get(\"connection\")?.get(\"state\")?.asText()");
+		properties.put("Capabilities", "get(\"capabilities\")");
+		Map<String, String> deviceProperties = new LinkedHashMap<>();
+		deviceProperties.put("deviceId", "get(\"id\")");
+		deviceProperties.put("deviceMake", "Audinate");
+		deviceProperties.put("macAddresses", "get(\"interfaces\")?.get(0)?.get(\"address\")");
+		PropertiesMapping model = new PropertiesMapping(null, "get(\"enrolmentState\") != null", properties, Collections.emptyMap(), Collections.emptyMap(), deviceProperties,
+				Collections.emptyMap());
+		assertParity(Collections.singletonMap("Generic", model), "[" + FULL_DEVICE + "," + MINIMAL_DEVICE.replace("\"name\":null", "\"name\":\"x\"") + "]");
+	}
+
+	/**
+	 * Maps the given devices with both the processor and the compiled mapping, and asserts the devices are the same.
+	 *
+	 * @param mapping the models
+	 * @param devicesJson the devices json array
+	 */
+	private void assertParity(Map<String, PropertiesMapping> mapping, String devicesJson) throws Exception {
+		JsonNode devices = objectMapper.readTree(devicesJson);
+		List<AggregatedDevice> expectedDevices = new AggregatedDeviceProcessor(mapping).extractDevices(devices);
+		List<AggregatedDevice> devicesOfArray = new CompiledDeviceMapping(mapping).extractDevices(devices);
+		Assert.assertFalse(expectedDevices.isEmpty());
+		Assert.assertEquals(expectedDevices.size(), devicesOfArray.size());
+		CompiledDeviceMapping compiledMapping = new CompiledDeviceMapping(mapping);
+		for (int i = 0; i < expectedDevices.size(); i++) {
+			AggregatedDevice expected = expectedDevices.get(i);
+			for (AggregatedDevice actual : new AggregatedDevice[] { devicesOfArray.get(i), compiledMapping.extractDevice(devices.get(i)).get(0) }) {
+				Assert.assertEquals(expected.getDeviceId(), actual.getDeviceId());
+				Assert.assertEquals(expected.getDeviceName(), actual.getDeviceName());
+				Assert.assertEquals(expected.getDeviceModel(), actual.getDeviceModel());
+				Assert.assertEquals(expected.getDeviceMake(), actual.getDeviceMake());
+				Assert.assertEquals(expected.getDeviceOnline(), actual.getDeviceOnline());
+				Assert.assertEquals(expected.getMacAddresses(), actual.getMacAddresses());
+				Assert.assertEquals(expected.getProperties(), actual.getProperties());
+				Assert.assertEquals(expected.getDynamicStatistics(), actual.getDynamicStatistics());
+				Assert.assertEquals(expected.getControllableProperties(), actual.getControllableProperties());
+			}
+		}
+	}
+}
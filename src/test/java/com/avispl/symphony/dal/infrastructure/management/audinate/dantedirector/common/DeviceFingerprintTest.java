@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests of {@link DeviceFingerprint}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class DeviceFingerprintTest {
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	/**
+	 * Swapped boolean flags have the same {@link JsonNode#hashCode()}, but not the same fingerprint.
+	 */
+	@Test
+	void testSwappedFlagsChangeTheFingerprint() throws Exception {
+		JsonNode device = objectMapper.readTree("{\"id\":\"1\",\"clockPreferences\":{\"externalWordClock\":true,\"leader\":false}}");
+		JsonNode swappedDevice = objectMapper.readTree("{\"id\":\"1\",\"clockPreferences\":{\"externalWordClock\":false,\"leader\":true}}");
+		Assert.assertEquals(device.hashCode(), swappedDevice.hashCode());
+		Assert.assertNotEquals(DeviceFingerprint.of(objectMapper, device), DeviceFingerprint.of(objectMapper, swappedDevice));
+		Assert.assertEquals(DeviceFingerprint.of(objectMapper, device), DeviceFingerprint.of(objectMapper, device.deepCopy()));
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.dto.ChannelDTO;
+
+/**
+ * Tests of the round trip of the device cache through {@link DeviceSnapshotFile}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class DeviceSnapshotFileTest {
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	/**
+	 * A written snapshot is read back as written, and its fingerprints are dropped when the model mapping changed.
+	 */
+	@Test
+	void testRoundTrip(@TempDir Path directory) throws Exception {
+		Path path = directory.resolve("snapshot.bin");
+		Assert.assertNull(new DeviceSnapshotFile(path, 1, objectMapper).read());
+
+		AggregatedDevice device = new AggregatedDevice();
+		device.setDeviceId("device-0");
+		device.setDeviceName("Stage Box");
+		device.setDeviceModel("AVIO");
+		device.setDeviceOnline(true);
+		Map<String, String> properties = new HashMap<>();
+		properties.put("ClockSynchronisation#PreferredLeader", "1");
+		properties.put("Empty", null);
+		device.setProperties(properties);
+		ChannelDTO[] receiveChannels = { new ChannelDTO("01", "audio", "02", "Console"), new ChannelDTO("02", "audio", null, null) };
+		JsonNode rawDevice = objectMapper.readTree("{\"id\":\"device-0\",\"name\":\"Stage Box\"}");
+		JsonNode domain = objectMapper.readTree("{\"id\":\"domain-0\",\"name\":\"Main\"}");
+
+		DeviceSnapshotFile snapshotFile = new DeviceSnapshotFile(path, 1, objectMapper);
+		snapshotFile.write(snapshotFile.encode(1000L, Collections.singletonList(domain),
+				Collections.singletonList(new DeviceCacheEntry(device, "domain-0", receiveChannels, rawDevice, 42L, 900L))));
+		Assert.assertFalse(Files.exists(directory.resolve("snapshot.bin.tmp")));
+
+		DeviceSnapshotFile.Snapshot snapshot = snapshotFile.read();
+		Assert.assertEquals(1000L, snapshot.getSnapshotTime());
+		Assert.assertEquals(Collections.singletonList(domain), snapshot.getDomains());
+		DeviceCacheEntry entry = snapshot.getEntries().get(0);
+		Assert.assertEquals("Stage Box", entry.getDevice().getDeviceName());
+		Assert.assertNull(entry.getDevice().getDeviceMake());
+		Assert.assertEquals(Boolean.TRUE, entry.getDevice().getDeviceOnline());
+		Assert.assertEquals(properties, entry.getDevice().getProperties());
+		Assert.assertEquals("domain-0", entry.getDomainId());
+		Assert.assertEquals(Long.valueOf(42), entry.getFingerprint());
+		Assert.assertEquals(900L, entry.getLastUpdated());
+		Assert.assertEquals(1000L, entry.getRestoredSnapshotTime());
+		Assert.assertEquals("Console", entry.getReceiveChannels()[0].getSubscribedDevice());
+		Assert.assertNull(entry.getReceiveChannels()[1].getSubscribedChannel());
+		Assert.assertEquals(rawDevice, entry.getRawDevice());
+
+		Assert.assertNull(new DeviceSnapshotFile(path, 2, objectMapper).read().getEntries().get(0).getFingerprint());
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests of the incremental maintenance of {@link FleetGauges}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class FleetGaugesTest {
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	/**
+	 * A changed device moves from its previous values to its new ones, and a removed device leaves the gauges.
+	 */
+	@Test
+	void testIncrementalUpdates() throws Exception {
+		FleetGauges fleetGauges = new FleetGauges();
+		fleetGauges.updateDevice("d1", device("READY", "OK", 3));
+		fleetGauges.updateDevice("d2", device("READY", "WARNING", -12.5));
+		fleetGauges.updateDevice("d1", device("OFFLINE", "OK", 30));
+		String exposition = render(fleetGauges);
+		Assert.assertTrue(exposition.contains("dante_fleet_devices 2\n"));
+		Assert.assertTrue(exposition.contains("dante_fleet_devices_by_connection_state{state=\"READY\"} 1\n"));
+		Assert.assertTrue(exposition.contains("dante_fleet_devices_by_connection_state{state=\"OFFLINE\"} 1\n"));
+		Assert.assertTrue(exposition.contains("dante_fleet_devices_by_status{category=\"clocking\",status=\"WARNING\"} 1\n"));
+		Assert.assertTrue(exposition.contains("dante_fleet_devices_by_status{category=\"latency\",status=\"UNKNOWN\"} 2\n"));
+		Assert.assertTrue(exposition.contains("dante_fleet_frequency_offset_ppm_bucket{le=\"-10\"} 1\n"));
+		Assert.assertTrue(exposition.contains("dante_fleet_frequency_offset_ppm_bucket{le=\"20\"} 1\n"));
+		Assert.assertTrue(exposition.contains("dante_fleet_frequency_offset_ppm_bucket{le=\"50\"} 2\n"));
+		Assert.assertTrue(exposition.contains("dante_fleet_frequency_offset_ppm_sum 17.5\n"));
+
+		fleetGauges.removeDevice("d2");
+		exposition = render(fleetGauges);
+		Assert.assertTrue(exposition.contains("dante_fleet_devices 1\n"));
+		Assert.assertFalse(exposition.contains("state=\"READY\""));
+		Assert.assertFalse(exposition.contains("status=\"WARNING\""));
+		Assert.assertTrue(exposition.contains("dante_fleet_frequency_offset_ppm_count 1\n"));
+	}
+
+	private JsonNode device(String connectionState, String clocking, double frequencyOffset) throws Exception {
+		return objectMapper.readTree(String.format("{\"connection\":{\"state\":\"%s\"},\"status\":{\"clocking\":\"%s\",\"latency\":null,\"subscriptions\":\"OK\"},"
+				+ "\"clockingState\":{\"frequencyOffset\":%s}}", connectionState, clocking, frequencyOffset));
+	}
+
+	private String render(FleetGauges fleetGauges) {
+		StringBuilder builder = new StringBuilder();
+		fleetGauges.appendPrometheus(builder);
+		return builder.toString();
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.common;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.audinate.dantedirector.dto.ChannelDTO;
+
+/**
+ * Tests of the incremental maintenance of {@link SubscriptionGraph}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class SubscriptionGraphTest {
+	private static final ChannelDTO[] NO_CHANNELS = new ChannelDTO[0];
+
+	/**
+	 * Subscriptions to an unknown transmitter are broken until it is added, and broken again once it is removed.
+	 */
+	@Test
+	void testBrokenSubscriptionsResolve() {
+		SubscriptionGraph graph = new SubscriptionGraph();
+		Assert.assertEquals(new HashSet<>(Collections.singletonList("rx")), graph.updateDevice("rx", "d1", "Receiver", channels("Console", "Console", "Stage")));
+		Assert.assertEquals(3, graph.getBrokenSubscriptions());
+		Assert.assertEquals(3, graph.getBrokenSubscriptions("rx"));
+
+		Assert.assertEquals(new HashSet<>(Arrays.asList("tx", "rx")), graph.updateDevice("tx", "d1", "Console", NO_CHANNELS));
+		Assert.assertEquals(1, graph.getBrokenSubscriptions());
+		Assert.assertEquals(1, graph.getBrokenSubscriptions("rx"));
+		Assert.assertEquals(1, graph.getSubscriberCount("tx"));
+		Assert.assertEquals(2, graph.getTransmitFanOut("tx"));
+
+		Assert.assertEquals(Collections.singleton("rx"), graph.removeDevice("tx"));
+		Assert.assertEquals(3, graph.getBrokenSubscriptions());
+		Assert.assertEquals(0, graph.getTransmitFanOut("tx"));
+
+		graph.removeDevice("rx");
+		Assert.assertEquals(0, graph.getBrokenSubscriptions());
+		Assert.assertEquals(0, graph.getBrokenSubscriptions("rx"));
+	}
+
+	/**
+	 * A renamed transmitter leaves the subscriptions to its previous name broken, and resolves the ones to its new name.
+	 */
+	@Test
+	void testRename() {
+		SubscriptionGraph graph = new SubscriptionGraph();
+		graph.updateDevice("tx", "d1", "Console", NO_CHANNELS);
+		graph.updateDevice("rx1", "d1", "Receiver 1", channels("Console"));
+		graph.updateDevice("rx2", "d1", "Receiver 2", channels("Desk", "Desk"));
+		Assert.assertEquals(2, graph.getBrokenSubscriptions());
+
+		Assert.assertEquals(new HashSet<>(Arrays.asList("tx", "rx1", "rx2")), graph.updateDevice("tx", "d1", "Desk", NO_CHANNELS));
+		Assert.assertEquals(1, graph.getBrokenSubscriptions());
+		Assert.assertEquals(1, graph.getBrokenSubscriptions("rx1"));
+		Assert.assertEquals(0, graph.getBrokenSubscriptions("rx2"));
+		Assert.assertEquals(1, graph.getSubscriberCount("tx"));
+		Assert.assertEquals(2, graph.getTransmitFanOut("tx"));
+
+		// a renamed receiver keeps its subscriptions, and a subscription to itself is not broken
+		graph.updateDevice("rx2", "d1", "Desk 2", channels("Desk", "Desk 2"));
+		Assert.assertEquals(1, graph.getBrokenSubscriptions());
+		Assert.assertEquals(1, graph.getSubscriberCount("rx2"));
+		graph.removeDevice("rx2");
+		Assert.assertEquals(1, graph.getBrokenSubscriptions());
+		Assert.assertEquals(0, graph.getSubscriberCount("tx"));
+	}
+
+	/**
+	 * Devices with the same name in different domains are distinct, and subscriptions resolve within the domain of the receiver.
+	 */
+	@Test
+	void testSameNameInDifferentDomains() {
+		SubscriptionGraph graph = new SubscriptionGraph();
+		graph.updateDevice("tx1", "d1", "Console", NO_CHANNELS);
+		graph.updateDevice("tx2", "d2", "Console", NO_CHANNELS);
+		graph.updateDevice("rx1", "d1", "Stage Box", channels("Console"));
+		graph.updateDevice("rx2", "d2", "Stage Box", channels("Console", "Console", "Console"));
+		graph.updateDevice("rx3", "d3", "Stage Box", channels("Console"));
+		Assert.assertEquals(1, graph.getTransmitFanOut("tx1"));
+		Assert.assertEquals(3, graph.getTransmitFanOut("tx2"));
+		Assert.assertEquals(0, graph.getBrokenSubscriptions("rx1"));
+		Assert.assertEquals(1, graph.getBrokenSubscriptions("rx3"));
+		Assert.assertEquals(1, graph.getBrokenSubscriptions());
+
+		// moving the receiver to another domain resolves its subscriptions there
+		Assert.assertEquals(new HashSet<>(Arrays.asList("rx3", "tx1")), graph.updateDevice("rx3", "d1", "Stage Box", channels("Console")));
+		Assert.assertEquals(0, graph.getBrokenSubscriptions());
+		Assert.assertEquals(2, graph.getSubscriberCount("tx1"));
+		Assert.assertEquals(1, graph.getSubscriberCount("tx2"));
+
+		graph.removeDevice("rx2");
+		Assert.assertEquals(0, graph.getTransmitFanOut("tx2"));
+		Assert.assertEquals(2, graph.getTransmitFanOut("tx1"));
+	}
+
+	private static ChannelDTO[] channels(String... transmitterNames) {
+		ChannelDTO[] channels = new ChannelDTO[transmitterNames.length];
+		for (int i = 0; i < transmitterNames.length; i++) {
+			channels[i] = new ChannelDTO(String.format("%02d", i + 1), "audio", String.format("%02d", i + 1), transmitterNames[i]);
+		}
+		return channels;
+	}
+}